@@ -0,0 +1,123 @@
+package com.finsightx.finsightx_backend;
+
+import com.finsightx.finsightx_backend.domain.PolicyInfo;
+import com.finsightx.finsightx_backend.domain.PortfolioItem;
+import com.finsightx.finsightx_backend.domain.Stock;
+import com.finsightx.finsightx_backend.domain.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Deterministic synthetic data shaped like production: ~2,500 listed stocks over the 28 industry codes,
+ * portfolios of 1-15 holdings skewed towards large caps, and policy news feeds as returned by the news API.
+ */
+public final class BenchmarkFixtures {
+
+    public static final List<String> INDUSTRY_CODES = List.of(
+            "1010", "1510", "2010", "2020", "2030", "2510", "2520", "2530", "2550",
+            "2560", "3010", "3020", "3030", "3510", "3520", "4010", "4020", "4030",
+            "4040", "4050", "4510", "4520", "4530", "4535", "4540", "5010", "5020",
+            "5510"
+    );
+
+    public static final int STOCK_COUNT = 2500;
+
+    private static final long SEED = 42L;
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Stock> stocks() {
+        List<Stock> stocks = new ArrayList<>(STOCK_COUNT);
+        for (int i = 0; i < STOCK_COUNT; i++) {
+            String industryCode = INDUSTRY_CODES.get(i % INDUSTRY_CODES.size());
+            stocks.add(new Stock(stockCode(i), "종목" + i, industryCode, "업종" + industryCode));
+        }
+        return stocks;
+    }
+
+    public static String stockCode(int index) {
+        return String.format("%06d", index);
+    }
+
+    public static List<User> users(int userCount) {
+        Random random = new Random(SEED);
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            int holdings = 1 + random.nextInt(15);
+            List<PortfolioItem> portfolio = new ArrayList<>(holdings);
+            for (int h = 0; h < holdings; h++) {
+                portfolio.add(new PortfolioItem(stockCode(skewedStockIndex(random)), 1 + random.nextInt(100)));
+            }
+            users.add(new User((long) i + 1, portfolio));
+        }
+        return users;
+    }
+
+    // Most holdings are in the first few hundred (large-cap) stocks.
+    private static int skewedStockIndex(Random random) {
+        double u = random.nextDouble();
+        return (int) (STOCK_COUNT * u * u * u);
+    }
+
+    public static PolicyInfo policy() {
+        PolicyInfo policyInfo = new PolicyInfo();
+        policyInfo.setPolicyId(1L);
+        policyInfo.setPolicyName("반도체 산업 육성 특별법 제정");
+        policyInfo.setStage("확정/공포");
+        policyInfo.setPositiveIndustries(List.of("4530", "4520"));
+        policyInfo.setNegativeIndustries(List.of("1010"));
+        policyInfo.setPositiveStocks(List.of(stockCode(0), stockCode(1), stockCode(57)));
+        policyInfo.setNegativeStocks(List.of(stockCode(3)));
+        return policyInfo;
+    }
+
+    public static List<String> llmContent() {
+        return List.of(
+                "반도체와반도체장비(4530) 업종은 세액공제 확대와 인프라 지원으로 설비 투자 여력이 커져 긍정적 영향을 받을 수 있습니다. " +
+                        "2019년 소재·부품·장비 지원책 발표 이후 장비주가 강세를 보인 사례가 있습니다.",
+                "기술하드웨어와장비(4520) 및 전자와 전기제품(4535) 업종도 전방 수요 확대로 수혜가 예상됩니다.",
+                "에너지(1010) 업종은 전력 수요 증가에 따른 요금 조정 가능성으로 단기 부담이 있을 수 있습니다."
+        );
+    }
+
+    /**
+     * A news API response with {@code itemCount} NewsItems; every third item is not policy news.
+     * Bodies are HTML in CDATA of a few KB, like real press releases.
+     */
+    public static byte[] policyNewsXml(int itemCount) {
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss");
+        LocalDateTime approvedAt = LocalDateTime.of(2025, 7, 1, 9, 0);
+        String body = "<p>" + "정부는 산업 경쟁력 강화를 위해 관련 법령 개정안을 국무회의에서 의결했다고 밝혔다. ".repeat(40) + "</p>";
+
+        StringBuilder xml = new StringBuilder(itemCount * (body.length() + 1024));
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+                .append("<response><header><resultCode>0</resultCode><resultMsg>NORMAL_SERVICE</resultMsg></header><body>");
+        for (int i = 0; i < itemCount; i++) {
+            xml.append("<NewsItem>")
+                    .append("<NewsItemId>").append(148900000 + i).append("</NewsItemId>")
+                    .append("<ContentsStatus>I</ContentsStatus>")
+                    .append("<ModifyId>").append(i).append("</ModifyId>")
+                    .append("<ApproveDate>").append(approvedAt.plusMinutes(i).format(dateFormat)).append("</ApproveDate>")
+                    .append("<ApproverName>홍길동</ApproverName>")
+                    .append("<EmbargoDate></EmbargoDate>")
+                    .append("<GroupingCode>").append(i % 3 == 2 ? "photo" : "policy").append("</GroupingCode>")
+                    .append("<Title><![CDATA[산업 경쟁력 강화 방안 ").append(i).append("]]></Title>")
+                    .append("<SubTitle1><![CDATA[관계부처 합동 발표]]></SubTitle1>")
+                    .append("<SubTitle2></SubTitle2><SubTitle3></SubTitle3>")
+                    .append("<ContentsType>H</ContentsType>")
+                    .append("<DataContents><![CDATA[").append(body).append("]]></DataContents>")
+                    .append("<MinisterCode>산업통상자원부</MinisterCode>")
+                    .append("<OriginalUrl><![CDATA[https://www.korea.kr/briefing/pressReleaseView.do?newsId=").append(148900000 + i)
+                    .append("&call_from=openData]]></OriginalUrl>")
+                    .append("<ThumbnailUrl></ThumbnailUrl><OriginalimgUrl></OriginalimgUrl>")
+                    .append("</NewsItem>");
+        }
+        xml.append("</body></response>");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.finsightx.finsightx_backend.converter;
+
+import com.finsightx.finsightx_backend.BenchmarkFixtures;
+import com.finsightx.finsightx_backend.domain.PortfolioItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jsonb attribute conversion, run for every portfolio and policy row read or written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonbConverterBenchmark {
+
+    private final JsonbStringListConverter stringListConverter = new JsonbStringListConverter();
+    private final JsonbPortfolioListConverter portfolioListConverter = new JsonbPortfolioListConverter();
+
+    private List<String> stringList;
+    private String stringListJson;
+    private List<PortfolioItem> portfolio;
+    private String portfolioJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stringList = BenchmarkFixtures.llmContent();
+        stringListJson = stringListConverter.convertToDatabaseColumn(stringList);
+        portfolio = BenchmarkFixtures.users(1).get(0).getPortfolio();
+        portfolioJson = portfolioListConverter.convertToDatabaseColumn(portfolio);
+    }
+
+    @Benchmark
+    public String writeStringList() {
+        return stringListConverter.convertToDatabaseColumn(stringList);
+    }
+
+    @Benchmark
+    public List<String> readStringList() {
+        return stringListConverter.convertToEntityAttribute(stringListJson);
+    }
+
+    @Benchmark
+    public String writePortfolio() {
+        return portfolioListConverter.convertToDatabaseColumn(portfolio);
+    }
+
+    @Benchmark
+    public List<PortfolioItem> readPortfolio() {
+        return portfolioListConverter.convertToEntityAttribute(portfolioJson);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.finsightx.finsightx_backend.index;
+
+import com.finsightx.finsightx_backend.BenchmarkFixtures;
+import com.finsightx.finsightx_backend.domain.PolicyInfo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy signal matching (the fan-out in PolicyNewsService.processPolicySignalsForUsers) for one policy
+ * naming three stocks and three industries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PolicySignalMatcherBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int userCount;
+
+    private PortfolioIndex portfolioIndex;
+    private StockReferenceSnapshot stockSnapshot;
+    private PolicyInfo policyInfo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stockSnapshot = StockReferenceSnapshot.of(1, BenchmarkFixtures.stocks());
+        portfolioIndex = new PortfolioIndex();
+        portfolioIndex.rebuild(BenchmarkFixtures.users(userCount), stockSnapshot.getStockCodeToIndustryCodeMap());
+        policyInfo = BenchmarkFixtures.policy();
+    }
+
+    @Benchmark
+    public List<PolicySignalMatcher.Match> match() {
+        return PolicySignalMatcher.match(policyInfo, portfolioIndex, stockSnapshot);
+    }
+
+}
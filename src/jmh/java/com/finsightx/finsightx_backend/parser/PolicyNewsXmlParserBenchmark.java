@@ -0,0 +1,48 @@
+package com.finsightx.finsightx_backend.parser;
+
+import com.finsightx.finsightx_backend.BenchmarkFixtures;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsApiResponse;
+import org.openjdk.jmh.annotations.*;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming parse of a news API response (PolicyNewsService.parseXmlResponse),
+ * for a one-day feed and a large backfill window, with and without the approval-time filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PolicyNewsXmlParserBenchmark {
+
+    @Param({"100", "1000"})
+    public int itemCount;
+
+    private final PolicyNewsXmlParser parser = new PolicyNewsXmlParser();
+
+    private byte[] xml;
+    private PolicyNewsItemFilter approvedAfterFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        xml = BenchmarkFixtures.policyNewsXml(itemCount);
+        // Rejects roughly the first half of the feed by approval time.
+        approvedAfterFilter = PolicyNewsItemFilter.policyNewsApprovedAfter(
+                OffsetDateTime.of(2025, 7, 1, 9, 0, 0, 0, ZoneOffset.ofHours(9)).plusMinutes(itemCount / 2));
+    }
+
+    @Benchmark
+    public PolicyNewsApiResponse parsePolicyNews() throws XMLStreamException {
+        return parser.parse(new ByteArrayInputStream(xml), PolicyNewsItemFilter.policyNews());
+    }
+
+    @Benchmark
+    public PolicyNewsApiResponse parsePolicyNewsApprovedAfter() throws XMLStreamException {
+        return parser.parse(new ByteArrayInputStream(xml), approvedAfterFilter);
+    }
+
+}
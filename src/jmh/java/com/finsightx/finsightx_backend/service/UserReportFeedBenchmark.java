@@ -0,0 +1,53 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.BenchmarkFixtures;
+import com.finsightx.finsightx_backend.domain.DailyReport;
+import com.finsightx.finsightx_backend.domain.UserReportFeed;
+import com.finsightx.finsightx_backend.index.PortfolioIndex;
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Personalized report assembly. Since the feed is materialized at write time, the work behind
+ * getPersonalizedDailyReportsAsDto is building the per-user entries when a report is saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserReportFeedBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int userCount;
+
+    private PortfolioIndex portfolioIndex;
+    private StockReferenceSnapshot stockSnapshot;
+    private DailyReport report;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stockSnapshot = StockReferenceSnapshot.of(1, BenchmarkFixtures.stocks());
+        portfolioIndex = new PortfolioIndex();
+        portfolioIndex.rebuild(BenchmarkFixtures.users(userCount), stockSnapshot.getStockCodeToIndustryCodeMap());
+
+        report = new DailyReport();
+        report.setReportId(1L);
+        report.setTitle("7월 1일 일일 정책 리포트");
+        report.setCreatedAt(OffsetDateTime.of(2025, 7, 1, 21, 0, 0, 0, ZoneOffset.ofHours(9)));
+        report.setPolicies(List.of(1L, 2L, 3L, 4L, 5L));
+        report.setIndustryCodes(List.of("4530", "4520", "1010", "3520"));
+        report.setIndustryNames(List.of("업종4530", "업종4520", "업종1010", "업종3520"));
+        report.setStockCodes(List.of(BenchmarkFixtures.stockCode(0), BenchmarkFixtures.stockCode(1),
+                BenchmarkFixtures.stockCode(3), BenchmarkFixtures.stockCode(57), BenchmarkFixtures.stockCode(120)));
+    }
+
+    @Benchmark
+    public List<UserReportFeed> buildEntriesForReport() {
+        return UserReportFeedService.buildEntriesForReport(report, portfolioIndex, stockSnapshot);
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.finsightx.finsightx_backend.classifier;
+
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import com.finsightx.finsightx_backend.util.TextNormalizer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Cheap in-process estimate of how likely a news item announces a policy change, used to skip the LLM call
+ * for obvious non-policy items (events, visits, personnel news).
+ * <p>
+ * A logistic model over hashed features: dictionary terms for law, institution and budget changes (positive)
+ * and for events and ceremonies (negative), the issuing ministry, and character bigrams of the title and of
+ * the lead of the body. Dictionary terms and economic ministries start with hand-set weights, so the model
+ * is usable before it has seen any labels; it is then trained online with the LLM's verdicts as labels.
+ * Scoring and training are synchronized; both cost microseconds next to an LLM round trip.
+ */
+public class PolicyNewsClassifier {
+
+    public static final int DIMENSIONS = 1 << 18;
+
+    private static final int BODY_LEAD_CHARS = 400;
+    private static final double L2 = 1e-6;
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+    private static final Map<String, Double> TERM_PRIORS = Map.ofEntries(
+            Map.entry("법률", 1.0), Map.entry("법안", 1.0), Map.entry("개정", 1.2), Map.entry("제정", 1.2),
+            Map.entry("시행령", 1.5), Map.entry("시행규칙", 1.5), Map.entry("입법예고", 1.5), Map.entry("고시", 0.8),
+            Map.entry("제도", 1.0), Map.entry("규제", 1.0), Map.entry("완화", 0.8), Map.entry("폐지", 0.8),
+            Map.entry("예산", 1.2), Map.entry("추경", 1.5), Map.entry("세법", 1.5), Map.entry("세액공제", 1.5),
+            Map.entry("보조금", 1.0), Map.entry("인상", 0.6), Map.entry("인하", 0.6), Map.entry("국무회의", 1.0),
+            Map.entry("의결", 1.0), Map.entry("종합대책", 1.2), Map.entry("방안", 0.6), Map.entry("로드맵", 0.8),
+            Map.entry("행사", -1.2), Map.entry("개최", -0.8), Map.entry("방문", -1.0), Map.entry("간담회", -0.8),
+            Map.entry("축사", -1.5), Map.entry("기념식", -1.5), Map.entry("시상", -1.2), Map.entry("캠페인", -1.0),
+            Map.entry("인사", -0.8), Map.entry("동정", -1.5), Map.entry("봉사", -1.2), Map.entry("참석", -0.8),
+            Map.entry("공모전", -1.2), Map.entry("업무협약", -0.6)
+    );
+
+    private static final List<String> ECONOMIC_MINISTRIES = List.of(
+            "기획재정부", "금융위원회", "산업통상자원부", "국토교통부", "과학기술정보통신부", "공정거래위원회",
+            "중소벤처기업부", "해양수산부", "농림축산식품부", "환경부", "보건복지부", "고용노동부"
+    );
+    private static final double ECONOMIC_MINISTRY_PRIOR = 0.5;
+
+    private static final int TERM_SEED = 1;
+    private static final int MINISTRY_SEED = 2;
+    private static final int TITLE_BIGRAM_SEED = 3;
+    private static final int BODY_BIGRAM_SEED = 4;
+
+    private final float[] weights;
+    private float bias;
+    private long trainedExamples;
+
+    private PolicyNewsClassifier(float[] weights, float bias, long trainedExamples) {
+        this.weights = weights;
+        this.bias = bias;
+        this.trainedExamples = trainedExamples;
+    }
+
+    public static PolicyNewsClassifier withPriors() {
+        float[] weights = new float[DIMENSIONS];
+        TERM_PRIORS.forEach((term, prior) -> weights[hash(TERM_SEED, term)] += prior.floatValue());
+        for (String ministry : ECONOMIC_MINISTRIES) {
+            weights[hash(MINISTRY_SEED, ministry)] += (float) ECONOMIC_MINISTRY_PRIOR;
+        }
+        return new PolicyNewsClassifier(weights, 0f, 0);
+    }
+
+    /**
+     * Restores a model written by {@link #toBytes()}; falls back to the priors if the layout does not match.
+     */
+    public static PolicyNewsClassifier fromBytes(byte[] bytes, long trainedExamples) {
+        if (bytes == null || bytes.length != (DIMENSIONS + 1) * Float.BYTES) {
+            return withPriors();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        float bias = buffer.getFloat();
+        float[] weights = new float[DIMENSIONS];
+        buffer.asFloatBuffer().get(weights);
+        return new PolicyNewsClassifier(weights, bias, trainedExamples);
+    }
+
+    public synchronized byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate((DIMENSIONS + 1) * Float.BYTES);
+        buffer.putFloat(bias);
+        buffer.asFloatBuffer().put(weights);
+        return buffer.array();
+    }
+
+    public synchronized long getTrainedExamples() {
+        return trainedExamples;
+    }
+
+    /**
+     * Probability in [0, 1] that the item is a policy change.
+     */
+    public double score(PolicyNewsItem newsItem) {
+        return score(Features.of(newsItem));
+    }
+
+    public synchronized double score(Features features) {
+        double z = bias;
+        for (int i = 0; i < features.indices.length; i++) {
+            z += weights[features.indices[i]] * features.values[i];
+        }
+        return 1.0 / (1.0 + Math.exp(-z));
+    }
+
+    // One step of stochastic gradient descent on the log loss.
+    public synchronized void train(Features features, boolean policyChange, double learningRate) {
+        double error = (policyChange ? 1.0 : 0.0) - score(features);
+        for (int i = 0; i < features.indices.length; i++) {
+            int index = features.indices[i];
+            weights[index] += (float) (learningRate * (error * features.values[i] - L2 * weights[index]));
+        }
+        bias += (float) (learningRate * error);
+        trainedExamples++;
+    }
+
+    private static int hash(int seed, CharSequence token) {
+        int h = seed;
+        for (int i = 0; i < token.length(); i++) {
+            h = 31 * h + token.charAt(i);
+        }
+        return mix(h);
+    }
+
+    private static int hash(int seed, char first, char second) {
+        return mix((31 * seed + first) * 31 + second);
+    }
+
+    // MurmurHash3 finalizer, so neighbouring bigrams spread over the whole table.
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h & (DIMENSIONS - 1);
+    }
+
+    /**
+     * Sparse feature vector of a news item. Bigram groups are scaled by 1/sqrt(count)
+     * so long titles and bodies do not dominate the dictionary and ministry features.
+     */
+    public static final class Features {
+
+        private final int[] indices;
+        private final float[] values;
+
+        private Features(int[] indices, float[] values) {
+            this.indices = indices;
+            this.values = values;
+        }
+
+        public static Features of(PolicyNewsItem newsItem) {
+            String title = TextNormalizer.normalize(Objects.toString(newsItem.getTitle(), "") + " "
+                    + Objects.toString(newsItem.getSubTitle1(), ""));
+            String body = TextNormalizer.normalize(HTML_TAG.matcher(Objects.toString(newsItem.getDataContents(), "")).replaceAll(" "));
+            String bodyLead = body.length() > BODY_LEAD_CHARS ? body.substring(0, BODY_LEAD_CHARS) : body;
+
+            int capacity = TERM_PRIORS.size() + 1 + title.length() + bodyLead.length();
+            int[] indices = new int[capacity];
+            float[] values = new float[capacity];
+            int size = 0;
+
+            for (String term : TERM_PRIORS.keySet()) {
+                if (title.contains(term) || bodyLead.contains(term)) {
+                    indices[size] = hash(TERM_SEED, term);
+                    values[size++] = 1f;
+                }
+            }
+
+            String ministry = TextNormalizer.normalize(newsItem.getMinisterCode());
+            if (!ministry.isEmpty()) {
+                indices[size] = hash(MINISTRY_SEED, ministry);
+                values[size++] = 1f;
+            }
+
+            size = addBigrams(title, TITLE_BIGRAM_SEED, indices, values, size);
+            size = addBigrams(bodyLead, BODY_BIGRAM_SEED, indices, values, size);
+
+            return new Features(Arrays.copyOf(indices, size), Arrays.copyOf(values, size));
+        }
+
+        private static int addBigrams(String text, int seed, int[] indices, float[] values, int size) {
+            int start = size;
+            for (int i = 0; i + 1 < text.length(); i++) {
+                char first = text.charAt(i);
+                char second = text.charAt(i + 1);
+                if (first != ' ' && second != ' ') {
+                    indices[size++] = hash(seed, first, second);
+                }
+            }
+            float value = size > start ? (float) (1.0 / Math.sqrt(size - start)) : 0f;
+            Arrays.fill(values, start, size, value);
+            return size;
+        }
+
+    }
+
+}
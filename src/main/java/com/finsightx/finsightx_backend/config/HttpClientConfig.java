@@ -0,0 +1,103 @@
+package com.finsightx.finsightx_backend.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Outbound HTTP clients.
+ * Every client gets its own Reactor Netty connection pool (keep-alive, bounded size, idle eviction),
+ * connect/response timeouts, gzip and Micrometer metrics (reactor.netty.* meters, tagged by client name).
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http.client.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${http.client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${http.client.pending-acquire-timeout-ms:10000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${http.client.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${http.client.max-in-memory-size:2097152}")
+    private int maxInMemorySize;
+
+    @Bean(name = "llmAnalysisWebClient")
+    public WebClient llmAnalysisWebClient(
+            @Value("${api.clova.analysis.endpoint}") String apiUrl,
+            @Value("${http.client.clova.response-timeout-ms:120000}") long responseTimeoutMs,
+            @Value("${http.client.clova.http2-enabled:true}") boolean http2Enabled) {
+        return webClient("clova-analysis", apiUrl, responseTimeoutMs, http2Enabled);
+    }
+
+    @Bean(name = "llmChatbotWebClient")
+    public WebClient llmChatbotWebClient(
+            @Value("${api.clova.chatbot.endpoint}") String apiUrl,
+            @Value("${http.client.clova.response-timeout-ms:120000}") long responseTimeoutMs,
+            @Value("${http.client.clova.http2-enabled:true}") boolean http2Enabled) {
+        return webClient("clova-chatbot", apiUrl, responseTimeoutMs, http2Enabled);
+    }
+
+    // Used for the policy news API; response size is limited while streaming the body (see PolicyNewsService).
+    @Bean
+    public RestTemplate restTemplate(
+            @Value("${http.client.news-api.response-timeout-ms:30000}") long responseTimeoutMs,
+            @Value("${http.client.news-api.http2-enabled:false}") boolean http2Enabled) {
+        ReactorClientHttpRequestFactory requestFactory =
+                new ReactorClientHttpRequestFactory(httpClient("policy-news-api", responseTimeoutMs, http2Enabled));
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(Duration.ofMillis(responseTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+
+    private WebClient webClient(String name, String baseUrl, long responseTimeoutMs, boolean http2Enabled) {
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient(name, responseTimeoutMs, http2Enabled)))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    private HttpClient httpClient(String name, long responseTimeoutMs, boolean http2Enabled) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMs))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .compress(true)
+                // A constant URI tag keeps the latency histogram cardinality at one series per client.
+                .metrics(true, uri -> name);
+
+        if (http2Enabled) {
+            // HTTP/2 is negotiated through ALPN and falls back to HTTP/1.1 when the server does not offer it.
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return httpClient;
+    }
+
+}
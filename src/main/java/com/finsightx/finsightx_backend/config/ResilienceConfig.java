@@ -0,0 +1,80 @@
+package com.finsightx.finsightx_backend.config;
+
+import com.finsightx.finsightx_backend.util.TransientFailures;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Retry, circuit breaker and bulkhead registries for outbound calls.
+ * Retries use exponential backoff with jitter and only fire on transient failures (see {@link TransientFailures}),
+ * which are also the only failures that count towards opening a breaker.
+ * All instances publish resilience4j.* meters tagged by name.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public RetryRegistry retryRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${resilience.retry.max-attempts:4}") int maxAttempts,
+            @Value("${resilience.retry.initial-interval-ms:1000}") long initialIntervalMs,
+            @Value("${resilience.retry.multiplier:2.0}") double multiplier,
+            @Value("${resilience.retry.randomization-factor:0.5}") double randomizationFactor,
+            @Value("${resilience.retry.max-interval-ms:30000}") long maxIntervalMs) {
+        RetryConfig retryConfig = RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        Duration.ofMillis(initialIntervalMs), multiplier, randomizationFactor, Duration.ofMillis(maxIntervalMs)))
+                .retryOnException(TransientFailures::isTransient)
+                .build();
+
+        RetryRegistry retryRegistry = RetryRegistry.of(retryConfig);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+        return retryRegistry;
+    }
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${resilience.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${resilience.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${resilience.circuit-breaker.wait-duration-in-open-state-ms:60000}") long waitDurationInOpenStateMs,
+            @Value("${resilience.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState) {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(waitDurationInOpenStateMs))
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .recordException(TransientFailures::isTransient)
+                .build();
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        return circuitBreakerRegistry;
+    }
+
+    // Per-dependency limits are applied where the bulkheads are created (see ResilienceService).
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        return bulkheadRegistry;
+    }
+
+}
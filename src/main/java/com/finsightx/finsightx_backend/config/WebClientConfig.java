@@ -1,29 +0,0 @@
-package com.finsightx.finsightx_backend.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.web.reactive.function.client.WebClient;
-
-@Configuration
-public class WebClientConfig {
-
-    @Bean(name = "llmAnalysisWebClient")
-    public WebClient llmAnalysisWebClient(@Value("${api.clova.analysis.endpoint}") String apiUrl) {
-        return WebClient.builder()
-                .baseUrl(apiUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-    }
-
-    @Bean(name = "llmChatbotWebClient")
-    public WebClient llmChatbotWebClient(@Value("${api.clova.chatbot.endpoint}") String apiUrl) {
-        return WebClient.builder()
-                .baseUrl(apiUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
-    }
-
-}
\ No newline at end of file
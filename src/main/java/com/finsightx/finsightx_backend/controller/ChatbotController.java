@@ -3,9 +3,15 @@ package com.finsightx.finsightx_backend.controller;
 import com.finsightx.finsightx_backend.dto.request.ChatbotRequest;
 import com.finsightx.finsightx_backend.dto.response.ChatbotResponse;
 import com.finsightx.finsightx_backend.service.ChatbotService;
+import com.finsightx.finsightx_backend.util.AdmissionLimiter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/chatbot")
@@ -15,9 +21,17 @@ public class ChatbotController {
     private final ChatbotService chatbotService;
 
     @PostMapping("/send")
-    public ResponseEntity<ChatbotResponse> sendMessage(@RequestBody ChatbotRequest request) {
-        ChatbotResponse response = chatbotService.sendMessage(request.getMessage());
-        return ResponseEntity.ok(response);
+    public Mono<ResponseEntity<ChatbotResponse>> sendMessage(@RequestBody ChatbotRequest request) {
+        return chatbotService.sendMessage(request.getMessage(), Boolean.TRUE.equals(request.getNoCache()))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.ok().<ChatbotResponse>build())
+                .onErrorResume(AdmissionLimiter.RejectedException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).<ChatbotResponse>build()));
+    }
+
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamMessage(@RequestBody ChatbotRequest request) {
+        return chatbotService.streamMessage(request.getMessage(), Boolean.TRUE.equals(request.getNoCache()));
     }
 
 }
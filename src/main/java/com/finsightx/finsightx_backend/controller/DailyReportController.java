@@ -1,5 +1,6 @@
 package com.finsightx.finsightx_backend.controller;
 
+import com.finsightx.finsightx_backend.dto.response.CursorPageResponse;
 import com.finsightx.finsightx_backend.dto.response.DailyReportListItemResponse;
 import com.finsightx.finsightx_backend.dto.response.DailyReportResponse;
 import com.finsightx.finsightx_backend.service.DailyReportService;
@@ -22,6 +23,17 @@ public class DailyReportController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<DailyReportListItemResponse>> getDailyReportsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(dailyReportService.getDailyReportsPageAsDto(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/personalized/{userId}")
     public ResponseEntity<List<DailyReportListItemResponse>> getPersonalizedDailyReports(@PathVariable Long userId) {
         List<DailyReportListItemResponse> responses = dailyReportService.getPersonalizedDailyReportsAsDto(userId);
@@ -1,18 +1,31 @@
 package com.finsightx.finsightx_backend.controller;
 
+import com.finsightx.finsightx_backend.domain.BackfillJob;
+import com.finsightx.finsightx_backend.dto.request.BackfillJobRequest;
 import com.finsightx.finsightx_backend.dto.request.NewsItemRequest;
+import com.finsightx.finsightx_backend.dto.response.BackfillJobResponse;
 import com.finsightx.finsightx_backend.dto.response.PolicyInfoResponse;
+import com.finsightx.finsightx_backend.service.BackfillJobService;
 import com.finsightx.finsightx_backend.service.PolicyNewsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/analysis")
 @RequiredArgsConstructor
 public class PolicyAnalysisController {
 
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
     private final PolicyNewsService policyNewsService;
+    private final BackfillJobService backfillJobService;
 
     @PostMapping("/item")
     public ResponseEntity<PolicyInfoResponse> analysisItem(@RequestBody NewsItemRequest newsItem) {
@@ -26,4 +39,47 @@ public class PolicyAnalysisController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/backfill")
+    public ResponseEntity<BackfillJobResponse> startBackfill(@RequestBody BackfillJobRequest request) {
+        if (request.getStartDate() == null || request.getEndDate() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            BackfillJob job = backfillJobService.startJob(
+                    LocalDate.parse(request.getStartDate(), DATE_FORMAT),
+                    LocalDate.parse(request.getEndDate(), DATE_FORMAT),
+                    request.getConcurrency()
+            );
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(backfillJobService.toBackfillJobResponse(job));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/backfill")
+    public ResponseEntity<List<BackfillJobResponse>> getBackfillJobs() {
+        List<BackfillJobResponse> responses = backfillJobService.getJobs().stream()
+                .map(backfillJobService::toBackfillJobResponse)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/backfill/{jobId}")
+    public ResponseEntity<BackfillJobResponse> getBackfillJob(@PathVariable Long jobId) {
+        return backfillJobService.getJob(jobId)
+                .map(backfillJobService::toBackfillJobResponse)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/backfill/{jobId}/resume")
+    public ResponseEntity<BackfillJobResponse> resumeBackfill(@PathVariable Long jobId) {
+        try {
+            BackfillJob job = backfillJobService.resumeJob(jobId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(backfillJobService.toBackfillJobResponse(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
 }
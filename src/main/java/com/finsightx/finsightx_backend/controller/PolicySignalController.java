@@ -1,5 +1,6 @@
 package com.finsightx.finsightx_backend.controller;
 
+import com.finsightx.finsightx_backend.dto.response.CursorPageResponse;
 import com.finsightx.finsightx_backend.dto.response.PolicySignalListItemResponse;
 import com.finsightx.finsightx_backend.dto.response.PolicySignalResponse;
 import com.finsightx.finsightx_backend.service.PolicySignalService;
@@ -22,6 +23,18 @@ public class PolicySignalController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<CursorPageResponse<PolicySignalListItemResponse>> getUserPolicySignalsPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(policySignalService.getUserPolicySignalsPageAsDto(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{policySignalId}")
     public ResponseEntity<PolicySignalResponse> getPolicySignalById(@PathVariable Long policySignalId) {
         return policySignalService.getPolicySignalAsDto(policySignalId)
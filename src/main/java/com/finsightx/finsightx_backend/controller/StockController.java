@@ -0,0 +1,29 @@
+package com.finsightx.finsightx_backend.controller;
+
+import com.finsightx.finsightx_backend.dto.response.StockReferenceResponse;
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
+import com.finsightx.finsightx_backend.service.StockReferenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stock")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockReferenceService stockReferenceService;
+
+    @GetMapping("/reference")
+    public ResponseEntity<StockReferenceResponse> getStockReference() {
+        StockReferenceSnapshot snapshot = stockReferenceService.getSnapshot();
+        return ResponseEntity.ok(new StockReferenceResponse(snapshot.getVersion(), snapshot.size()));
+    }
+
+    @PostMapping("/reference/reload")
+    public ResponseEntity<StockReferenceResponse> reloadStockReference() {
+        StockReferenceSnapshot snapshot = stockReferenceService.reload();
+        return ResponseEntity.ok(new StockReferenceResponse(snapshot.getVersion(), snapshot.size()));
+    }
+
+}
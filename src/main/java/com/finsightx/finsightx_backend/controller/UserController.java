@@ -1,13 +1,11 @@
 package com.finsightx.finsightx_backend.controller;
 
+import com.finsightx.finsightx_backend.dto.request.PortfolioUpdateRequest;
 import com.finsightx.finsightx_backend.dto.response.PortfolioItemResponse;
 import com.finsightx.finsightx_backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -28,4 +26,14 @@ public class UserController {
         }
     }
 
+    @PutMapping("/portfolio/{userId}")
+    public ResponseEntity<List<PortfolioItemResponse>> updatePortfolio(@PathVariable Long userId, @RequestBody PortfolioUpdateRequest request) {
+        try {
+            userService.updateUserPortfolio(userId, request.getPortfolio());
+            return ResponseEntity.ok(userService.getMyAssetsAsDto(userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
 }
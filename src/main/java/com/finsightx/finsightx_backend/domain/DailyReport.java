@@ -16,7 +16,9 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "daily_report")
+@Table(name = "daily_report", indexes = {
+        @Index(name = "idx_daily_report_created_at_report_id", columnList = "created_at DESC, report_id DESC")
+})
 public class DailyReport {
 
     @Id
@@ -33,4 +35,17 @@ public class DailyReport {
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "policies", columnDefinition = "jsonb", nullable = false)
     private List<Long> policies;
+
+    // Summary of the included policies, materialized when the report is written so listings don't load policy_info.
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "industry_codes", columnDefinition = "jsonb")
+    private List<String> industryCodes;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "industry_names", columnDefinition = "jsonb")
+    private List<String> industryNames;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "stock_codes", columnDefinition = "jsonb")
+    private List<String> stockCodes;
 }
@@ -0,0 +1,36 @@
+package com.finsightx.finsightx_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "daily_report_search_document")
+public class DailyReportSearchDocument {
+
+    @Id
+    @Column(name = "report_id")
+    private Long reportId;
+
+    @Column(name = "document", columnDefinition = "text", nullable = false)
+    private String document;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "bigrams", columnDefinition = "text[]")
+    private List<String> bigrams;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+}
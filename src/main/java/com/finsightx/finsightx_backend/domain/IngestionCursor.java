@@ -0,0 +1,29 @@
+package com.finsightx.finsightx_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "ingestion_cursor")
+public class IngestionCursor {
+
+    @Id
+    @Column(name = "cursor_name")
+    private String cursorName;
+
+    @Column(name = "last_processed_at", nullable = false)
+    private OffsetDateTime lastProcessedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+}
@@ -0,0 +1,32 @@
+package com.finsightx.finsightx_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "news_classifier_model")
+public class NewsClassifierModel {
+
+    @Id
+    @Column(name = "model_name")
+    private String modelName;
+
+    @Column(name = "weights", columnDefinition = "bytea", nullable = false)
+    private byte[] weights;
+
+    @Column(name = "trained_examples", nullable = false)
+    private long trainedExamples;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+
+}
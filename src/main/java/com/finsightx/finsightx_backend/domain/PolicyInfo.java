@@ -16,7 +16,9 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "policy_info")
+@Table(name = "policy_info", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_policy_info_news_item_id", columnNames = "news_item_id")
+})
 public class PolicyInfo {
 
     @Id
@@ -59,4 +61,8 @@ public class PolicyInfo {
     @Column(name = "original_url", nullable = false)
     private String originalUrl;
 
+    // NewsItemId of the source article; null for manually analyzed items.
+    @Column(name = "news_item_id")
+    private String newsItemId;
+
 }
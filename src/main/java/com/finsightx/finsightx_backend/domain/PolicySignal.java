@@ -16,7 +16,9 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "policy_signal")
+@Table(name = "policy_signal", indexes = {
+        @Index(name = "idx_policy_signal_user_created_at_id", columnList = "user_id, created_at DESC, policy_signal_id DESC")
+})
 public class PolicySignal {
 
     @Id
@@ -0,0 +1,57 @@
+package com.finsightx.finsightx_backend.domain;
+
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "processed_news_item")
+public class ProcessedNewsItem {
+
+    @Id
+    @Column(name = "news_item_id")
+    private String newsItemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "policy_id")
+    private Long policyId;
+
+    @Column(name = "claimed_at", nullable = false)
+    private OffsetDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private OffsetDateTime processedAt;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_retry_at")
+    private OffsetDateTime nextRetryAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    // The news item as fetched, kept while the item is FAILED so it can be re-analyzed without re-reading the API.
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", columnDefinition = "jsonb")
+    private PolicyNewsItem payload;
+
+    // SKIPPED: judged not to be a policy change by the pre-filter, without an LLM call.
+    public enum Status {
+        IN_PROGRESS, COMPLETED, NOT_POLICY, SKIPPED, FAILED
+    }
+}
@@ -0,0 +1,53 @@
+package com.finsightx.finsightx_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_report_feed",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_report_feed_user_report", columnNames = {"user_id", "report_id"}),
+        indexes = {
+                @Index(name = "idx_user_report_feed_user_created_at", columnList = "user_id, report_created_at DESC, report_id DESC"),
+                @Index(name = "idx_user_report_feed_report_id", columnList = "report_id")
+        })
+public class UserReportFeed {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "feed_id")
+    private Long feedId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "report_id", nullable = false)
+    private Long reportId;
+
+    @Column(name = "report_created_at", nullable = false)
+    private OffsetDateTime reportCreatedAt;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "industry_names", columnDefinition = "jsonb", nullable = false)
+    private List<String> industryNames;
+
+    // Names of the report's stocks that the user holds.
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "stock_names", columnDefinition = "jsonb", nullable = false)
+    private List<String> stockNames;
+
+}
@@ -0,0 +1,24 @@
+package com.finsightx.finsightx_backend.dto.llm;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Payload of a CLOVA Studio streaming event ({@code token} or {@code result}).
+ * For {@code token} events the message carries only the newly generated text.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClovaStreamEvent {
+
+    private ClovaMessage message;
+
+    private String finishReason;
+
+    private ClovaResponse.Usage usage;
+
+}
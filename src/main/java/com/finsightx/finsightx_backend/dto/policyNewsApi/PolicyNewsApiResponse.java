@@ -18,4 +18,7 @@ public class PolicyNewsApiResponse {
     private String resultMsg;
 
     private List<PolicyNewsItem> newsItems;
+
+    // NewsItems rejected by the filter while parsing.
+    private int filteredItemCount;
 }
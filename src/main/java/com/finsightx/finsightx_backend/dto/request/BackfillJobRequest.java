@@ -0,0 +1,21 @@
+package com.finsightx.finsightx_backend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillJobRequest {
+
+    // yyyyMMdd, same format as /analysis/date/{date}
+    private String startDate;
+
+    private String endDate;
+
+    private Integer concurrency;
+
+}
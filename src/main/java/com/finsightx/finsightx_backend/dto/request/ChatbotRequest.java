@@ -13,4 +13,7 @@ public class ChatbotRequest {
 
     private String message;
 
+    // Skips the chatbot response cache and always asks the LLM.
+    private Boolean noCache;
+
 }
@@ -0,0 +1,19 @@
+package com.finsightx.finsightx_backend.dto.request;
+
+import com.finsightx.finsightx_backend.domain.PortfolioItem;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioUpdateRequest {
+
+    private List<PortfolioItem> portfolio;
+
+}
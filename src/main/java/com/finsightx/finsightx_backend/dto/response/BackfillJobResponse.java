@@ -0,0 +1,39 @@
+package com.finsightx.finsightx_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillJobResponse {
+
+    private Long jobId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private Integer concurrency;
+
+    private String status;
+
+    private Integer totalDays;
+
+    private Integer completedDays;
+
+    private Integer processedItems;
+
+    private String lastError;
+
+    private OffsetDateTime createdAt;
+
+    private OffsetDateTime updatedAt;
+
+}
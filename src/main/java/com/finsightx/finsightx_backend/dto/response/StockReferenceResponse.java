@@ -0,0 +1,18 @@
+package com.finsightx.finsightx_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReferenceResponse {
+
+    private Long version;
+
+    private Integer stockCount;
+
+}
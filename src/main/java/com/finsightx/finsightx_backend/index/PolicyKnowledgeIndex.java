@@ -0,0 +1,176 @@
+package com.finsightx.finsightx_backend.index;
+
+import com.finsightx.finsightx_backend.domain.PolicyInfo;
+import com.finsightx.finsightx_backend.util.TextNormalizer;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable in-memory retrieval index over analyzed policies, used to ground chatbot answers.
+ * Policies are scored by IDF-weighted character bigram overlap with the question (robust to Korean particles),
+ * plus a boost when the question names one of the policy's industries or stocks.
+ * A policy that names none of them must cover a minimum share of the question's IDF mass, so a question sharing
+ * only a common bigram such as "정책" with every policy gets no context at all.
+ */
+public class PolicyKnowledgeIndex {
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double SUMMARY_WEIGHT = 1.0;
+    private static final double ENTITY_MATCH_BOOST = 10.0;
+
+    private final List<PolicyDocument> documents;
+    private final Map<String, Map<Integer, Double>> bigramPostings;
+    private final Map<String, Double> bigramIdf;
+    private final Map<String, Set<Integer>> entityPostings;
+
+    private PolicyKnowledgeIndex(List<PolicyDocument> documents, Map<String, Map<Integer, Double>> bigramPostings,
+                                 Map<String, Set<Integer>> entityPostings) {
+        this.documents = documents;
+        this.bigramPostings = bigramPostings;
+        this.entityPostings = entityPostings;
+        this.bigramIdf = new HashMap<>();
+        for (Map.Entry<String, Map<Integer, Double>> entry : bigramPostings.entrySet()) {
+            bigramIdf.put(entry.getKey(), Math.log(1 + (double) documents.size() / entry.getValue().size()));
+        }
+    }
+
+    public static PolicyKnowledgeIndex empty() {
+        return new PolicyKnowledgeIndex(Collections.emptyList(), Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public static PolicyKnowledgeIndex build(Collection<PolicyInfo> policies, StockReferenceSnapshot stockSnapshot) {
+        List<PolicyDocument> documents = new ArrayList<>();
+        Map<String, Map<Integer, Double>> bigramPostings = new HashMap<>();
+        Map<String, Set<Integer>> entityPostings = new HashMap<>();
+
+        for (PolicyInfo policyInfo : policies) {
+            int docId = documents.size();
+            PolicyDocument document = PolicyDocument.of(policyInfo, stockSnapshot);
+            documents.add(document);
+
+            addBigrams(bigramPostings, docId, document.policyName(), NAME_WEIGHT);
+            addBigrams(bigramPostings, docId, document.summary(), SUMMARY_WEIGHT);
+
+            for (String name : concat(document.positiveIndustryNames(), document.negativeIndustryNames(), document.stockNames())) {
+                String normalizedName = TextNormalizer.normalize(name);
+                if (normalizedName.length() >= 2) {
+                    entityPostings.computeIfAbsent(normalizedName, key -> new HashSet<>()).add(docId);
+                }
+            }
+        }
+
+        return new PolicyKnowledgeIndex(documents, bigramPostings, entityPostings);
+    }
+
+    /**
+     * Returns up to {@code limit} policies ordered by relevance (ties broken by recency).
+     * Policies whose bigram score is below {@code minRelevance} times the question's IDF mass (roughly the score of a
+     * policy whose name contains every bigram of the question) are left out unless the question names one of their entities.
+     */
+    public List<PolicyDocument> search(String question, int limit, double minRelevance) {
+        String normalizedQuestion = TextNormalizer.normalize(question);
+        if (normalizedQuestion.isEmpty() || documents.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        // Bigrams no policy contains count with the highest IDF, since they may be what the question is about,
+        // but only at summary weight, since many of them are endings and particles ("알려", "주세").
+        double maxIdf = Math.log(1 + documents.size());
+        double questionMass = 0;
+
+        for (String bigram : bigrams(normalizedQuestion)) {
+            Map<Integer, Double> postings = bigramPostings.get(bigram);
+            if (postings == null) {
+                questionMass += maxIdf * SUMMARY_WEIGHT;
+                continue;
+            }
+            double idf = bigramIdf.get(bigram);
+            questionMass += idf * NAME_WEIGHT;
+            for (Map.Entry<Integer, Double> posting : postings.entrySet()) {
+                scores.merge(posting.getKey(), idf * posting.getValue(), Double::sum);
+            }
+        }
+
+        double minScore = minRelevance * questionMass;
+        scores.values().removeIf(score -> score < minScore);
+
+        for (Map.Entry<String, Set<Integer>> entity : entityPostings.entrySet()) {
+            if (normalizedQuestion.contains(entity.getKey())) {
+                for (Integer docId : entity.getValue()) {
+                    scores.merge(docId, ENTITY_MATCH_BOOST, Double::sum);
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<Integer, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                        .thenComparing(entry -> documents.get(entry.getKey()).createdAt(), Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(entry -> documents.get(entry.getKey()))
+                .toList();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private static void addBigrams(Map<String, Map<Integer, Double>> postings, int docId, String text, double weight) {
+        for (String bigram : bigrams(TextNormalizer.normalize(text))) {
+            postings.computeIfAbsent(bigram, key -> new HashMap<>()).merge(docId, weight, Math::max);
+        }
+    }
+
+    private static Set<String> bigrams(String text) {
+        String compact = text.replace(" ", "");
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 1 < compact.length(); i++) {
+            bigrams.add(compact.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    @SafeVarargs
+    private static List<String> concat(List<String>... lists) {
+        List<String> result = new ArrayList<>();
+        for (List<String> list : lists) {
+            result.addAll(list);
+        }
+        return result;
+    }
+
+    public record PolicyDocument(Long policyId, String policyName, String stage, String summary, OffsetDateTime createdAt,
+                                 List<String> positiveIndustryNames, List<String> negativeIndustryNames, List<String> stockNames) {
+
+        private static PolicyDocument of(PolicyInfo policyInfo, StockReferenceSnapshot stockSnapshot) {
+            return new PolicyDocument(
+                    policyInfo.getPolicyId(),
+                    Objects.toString(policyInfo.getPolicyName(), ""),
+                    Objects.toString(policyInfo.getStage(), ""),
+                    Objects.toString(policyInfo.getSummary(), ""),
+                    policyInfo.getCreatedAt(),
+                    resolveNames(policyInfo.getPositiveIndustries(), stockSnapshot::getIndustryName),
+                    resolveNames(policyInfo.getNegativeIndustries(), stockSnapshot::getIndustryName),
+                    resolveNames(concat(
+                            Objects.requireNonNullElse(policyInfo.getPositiveStocks(), Collections.emptyList()),
+                            Objects.requireNonNullElse(policyInfo.getNegativeStocks(), Collections.emptyList())
+                    ), stockSnapshot::getStockName)
+            );
+        }
+
+        private static List<String> resolveNames(List<String> codes, Function<String, String> resolver) {
+            if (codes == null) {
+                return Collections.emptyList();
+            }
+            return codes.stream()
+                    .map(resolver)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.finsightx.finsightx_backend.index;
+
+import com.finsightx.finsightx_backend.domain.PolicyInfo;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Matches an analyzed policy against user portfolios.
+ * Only users found through the portfolio index are visited; a holding is affected when the policy names
+ * the stock itself or the stock's industry.
+ */
+public final class PolicySignalMatcher {
+
+    private PolicySignalMatcher() {
+    }
+
+    public static List<Match> match(PolicyInfo policyInfo, PortfolioIndex portfolioIndex, StockReferenceSnapshot stockSnapshot) {
+        final Set<String> policyPositiveIndustryCodes = toSet(policyInfo.getPositiveIndustries());
+        final Set<String> policyNegativeIndustryCodes = toSet(policyInfo.getNegativeIndustries());
+        final Set<String> policyPositiveStockCodes = toSet(policyInfo.getPositiveStocks());
+        final Set<String> policyNegativeStockCodes = toSet(policyInfo.getNegativeStocks());
+
+        Set<Long> candidateUserIds = portfolioIndex.findUserIds(
+                Stream.concat(policyPositiveStockCodes.stream(), policyNegativeStockCodes.stream()).collect(Collectors.toSet()),
+                Stream.concat(policyPositiveIndustryCodes.stream(), policyNegativeIndustryCodes.stream()).collect(Collectors.toSet())
+        );
+
+        List<Match> matches = new ArrayList<>();
+
+        for (Long userId : candidateUserIds) {
+            final Set<String> userPortfolioStockCodes = portfolioIndex.getStockCodes(userId);
+            if (userPortfolioStockCodes.isEmpty()) {
+                continue;
+            }
+
+            Set<String> positiveImpactStockCodes = userPortfolioStockCodes.stream()
+                    .filter(policyPositiveStockCodes::contains)
+                    .collect(Collectors.toSet());
+            Set<String> negativeImpactStockCodes = userPortfolioStockCodes.stream()
+                    .filter(policyNegativeStockCodes::contains)
+                    .collect(Collectors.toSet());
+
+            for (String userStockCode : userPortfolioStockCodes) {
+                String industryCode = stockSnapshot.getIndustryCode(userStockCode);
+                if (industryCode != null) {
+                    if (policyPositiveIndustryCodes.contains(industryCode)) {
+                        positiveImpactStockCodes.add(userStockCode);
+                    }
+                    if (policyNegativeIndustryCodes.contains(industryCode)) {
+                        negativeImpactStockCodes.add(userStockCode);
+                    }
+                }
+            }
+
+            List<String> impactStockNames = Stream.concat(positiveImpactStockCodes.stream(), negativeImpactStockCodes.stream())
+                    .distinct()
+                    .map(stockSnapshot::getStockName)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+
+            if (!impactStockNames.isEmpty()) {
+                matches.add(new Match(userId, new ArrayList<>(positiveImpactStockCodes), new ArrayList<>(negativeImpactStockCodes), impactStockNames));
+            }
+        }
+
+        return matches;
+    }
+
+    private static Set<String> toSet(List<String> codes) {
+        return codes != null ? new HashSet<>(codes) : Collections.emptySet();
+    }
+
+    public record Match(Long userId, List<String> positiveStockCodes, List<String> negativeStockCodes, List<String> impactStockNames) {
+    }
+
+}
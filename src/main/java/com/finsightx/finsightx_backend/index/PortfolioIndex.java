@@ -0,0 +1,129 @@
+package com.finsightx.finsightx_backend.index;
+
+import com.finsightx.finsightx_backend.domain.PortfolioItem;
+import com.finsightx.finsightx_backend.domain.User;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory inverted index over user portfolios.
+ * Maps stock code -> user ids and industry code -> user ids so that policy signal fan-out
+ * only visits users holding an affected stock or industry.
+ */
+public class PortfolioIndex {
+
+    private volatile State state = new State(Collections.emptyMap());
+
+    // Returns the users whose indexed stock codes changed, including users added or removed.
+    public synchronized Set<Long> rebuild(Collection<User> users, Map<String, String> stockCodeToIndustryCodeMap) {
+        State newState = new State(stockCodeToIndustryCodeMap);
+        for (User user : users) {
+            newState.put(user.getUserId(), user.getPortfolio());
+        }
+
+        Set<Long> changedUserIds = new HashSet<>();
+        newState.userStockCodes.forEach((userId, stockCodes) -> {
+            if (!stockCodes.equals(state.userStockCodes.get(userId))) {
+                changedUserIds.add(userId);
+            }
+        });
+        for (Long userId : state.userStockCodes.keySet()) {
+            if (!newState.userStockCodes.containsKey(userId)) {
+                changedUserIds.add(userId);
+            }
+        }
+
+        state = newState;
+        return changedUserIds;
+    }
+
+    public synchronized void updateUser(Long userId, List<PortfolioItem> portfolio) {
+        State current = state;
+        current.remove(userId);
+        current.put(userId, portfolio);
+    }
+
+    public synchronized void removeUser(Long userId) {
+        state.remove(userId);
+    }
+
+    public Set<Long> findUserIds(Collection<String> stockCodes, Collection<String> industryCodes) {
+        State current = state;
+        Set<Long> userIds = new HashSet<>();
+        for (String stockCode : stockCodes) {
+            userIds.addAll(current.stockCodeToUserIds.getOrDefault(stockCode, Collections.emptySet()));
+        }
+        for (String industryCode : industryCodes) {
+            userIds.addAll(current.industryCodeToUserIds.getOrDefault(industryCode, Collections.emptySet()));
+        }
+        return userIds;
+    }
+
+    public Set<String> getStockCodes(Long userId) {
+        return state.userStockCodes.getOrDefault(userId, Collections.emptySet());
+    }
+
+    public int size() {
+        return state.userStockCodes.size();
+    }
+
+    private static class State {
+
+        private final Map<String, String> stockCodeToIndustryCodeMap;
+        private final Map<Long, Set<String>> userStockCodes = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> stockCodeToUserIds = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> industryCodeToUserIds = new ConcurrentHashMap<>();
+
+        private State(Map<String, String> stockCodeToIndustryCodeMap) {
+            this.stockCodeToIndustryCodeMap = stockCodeToIndustryCodeMap;
+        }
+
+        private void put(Long userId, List<PortfolioItem> portfolio) {
+            if (userId == null || portfolio == null || portfolio.isEmpty()) {
+                return;
+            }
+
+            Set<String> stockCodes = new HashSet<>();
+            for (PortfolioItem item : portfolio) {
+                if (item.getStockCode() != null) {
+                    stockCodes.add(item.getStockCode());
+                }
+            }
+            if (stockCodes.isEmpty()) {
+                return;
+            }
+            userStockCodes.put(userId, Collections.unmodifiableSet(stockCodes));
+
+            for (String stockCode : stockCodes) {
+                stockCodeToUserIds.computeIfAbsent(stockCode, k -> ConcurrentHashMap.newKeySet()).add(userId);
+                String industryCode = stockCodeToIndustryCodeMap.get(stockCode);
+                if (industryCode != null) {
+                    industryCodeToUserIds.computeIfAbsent(industryCode, k -> ConcurrentHashMap.newKeySet()).add(userId);
+                }
+            }
+        }
+
+        private void remove(Long userId) {
+            Set<String> stockCodes = userStockCodes.remove(userId);
+            if (stockCodes == null) {
+                return;
+            }
+            for (String stockCode : stockCodes) {
+                removeFrom(stockCodeToUserIds, stockCode, userId);
+                String industryCode = stockCodeToIndustryCodeMap.get(stockCode);
+                if (industryCode != null) {
+                    removeFrom(industryCodeToUserIds, industryCode, userId);
+                }
+            }
+        }
+
+        private static void removeFrom(Map<String, Set<Long>> index, String key, Long userId) {
+            index.computeIfPresent(key, (k, userIds) -> {
+                userIds.remove(userId);
+                return userIds.isEmpty() ? null : userIds;
+            });
+        }
+    }
+
+}
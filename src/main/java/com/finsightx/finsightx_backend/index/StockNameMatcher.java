@@ -0,0 +1,291 @@
+package com.finsightx.finsightx_backend.index;
+
+import com.finsightx.finsightx_backend.domain.Stock;
+import com.finsightx.finsightx_backend.util.TextNormalizer;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable Aho-Corasick automaton over listed stock names, their normalized forms and common aliases
+ * ("현대자동차" for 현대차, "엘지전자" for LG전자, ...).
+ * Resolves the loosely written stock names an LLM returns to stock codes, and finds every listed company
+ * mentioned in an article in one linear pass over its text.
+ */
+public final class StockNameMatcher {
+
+    // Two-character names ("대상", "대교", "기아") are also ordinary words or word parts, and Korean particles follow names
+    // without a space, so no boundary check can tell them apart; they are never matched in article text.
+    // They still resolve when the LLM returns them, as an exact name.
+    private static final int MIN_MENTION_LENGTH = 3;
+
+    private static final Pattern STOCK_CODE = Pattern.compile("\\d{6}");
+    // Longest first; "우선주" resolves to the listed preferred share ("삼성전자우") when there is one.
+    private static final List<String> SHARE_CLASS_SUFFIXES = List.of("우선주", "보통주", "우");
+    private static final Pattern NAME_NOISE = Pattern.compile("\\(주\\)|주식회사|\\s+");
+
+    private static final Map<String, String> PREFIX_TRANSLITERATIONS = Map.of(
+            "lg", "엘지", "sk", "에스케이", "kt", "케이티", "cj", "씨제이", "gs", "지에스",
+            "ls", "엘에스", "kb", "케이비", "hd", "에이치디", "db", "디비", "bnk", "비엔케이"
+    );
+
+    // Alias -> listed name; skipped when the listed name is not in the snapshot.
+    private static final Map<String, String> ALIASES = Map.of(
+            "현대자동차", "현대차",
+            "기아자동차", "기아",
+            "하이닉스", "SK하이닉스",
+            "포스코홀딩스", "POSCO홀딩스",
+            "네이버", "NAVER",
+            "LG엔솔", "LG에너지솔루션",
+            "삼성바이오", "삼성바이오로직스",
+            "한국전력공사", "한국전력"
+    );
+
+    private final String[] keys;
+    private final String[] keyCodes;
+    private final Map<String, Integer> keyIndex;
+    private final Set<String> stockCodes;
+    private final Map<String, String> stockCodeToKey;
+
+    private final Map<Long, Integer> transitions;
+    private final int[] failure;
+    private final int[] output;
+    private final int[] outputLink;
+
+    private StockNameMatcher(Map<String, String> keyToCode, Map<String, String> stockCodeToKey) {
+        this.keys = keyToCode.keySet().toArray(new String[0]);
+        this.keyCodes = keyToCode.values().toArray(new String[0]);
+        this.keyIndex = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            keyIndex.put(keys[i], i);
+        }
+        this.stockCodes = new HashSet<>(keyToCode.values());
+        this.stockCodeToKey = stockCodeToKey;
+
+        // Trie
+        this.transitions = new HashMap<>();
+        List<List<Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new ArrayList<>());
+        outputs.add(-1);
+        for (int k = 0; k < keys.length; k++) {
+            int state = 0;
+            for (int i = 0; i < keys[k].length(); i++) {
+                char ch = keys[k].charAt(i);
+                int next = step(state, ch);
+                if (next < 0) {
+                    next = children.size();
+                    children.add(new ArrayList<>());
+                    outputs.add(-1);
+                    transitions.put(edge(state, ch), next);
+                    children.get(state).add(next);
+                }
+                state = next;
+            }
+            outputs.set(state, k);
+        }
+
+        // Failure and output links, breadth first
+        int stateCount = children.size();
+        this.failure = new int[stateCount];
+        this.output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        this.outputLink = new int[stateCount];
+        Arrays.fill(outputLink, -1);
+
+        char[] incoming = new char[stateCount];
+        transitions.forEach((edge, state) -> incoming[state] = (char) (edge & 0xFFFF));
+
+        Deque<Integer> queue = new ArrayDeque<>(children.get(0));
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int child : children.get(state)) {
+                int target = -1;
+                if (state != 0) {
+                    char ch = incoming[child];
+                    int fallback = failure[state];
+                    while (fallback != 0 && step(fallback, ch) < 0) {
+                        fallback = failure[fallback];
+                    }
+                    target = step(fallback, ch);
+                }
+                failure[child] = target >= 0 ? target : 0;
+                outputLink[child] = output[failure[child]] >= 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    public static StockNameMatcher of(Collection<Stock> stocks) {
+        Map<String, String> keyToCode = new LinkedHashMap<>();
+        Map<String, String> stockCodeToKey = new HashMap<>();
+        Map<String, String> listedNameToCode = new HashMap<>();
+
+        for (Stock stock : stocks) {
+            String key = normalizeName(stock.getStockName());
+            if (key.isEmpty()) {
+                continue;
+            }
+            keyToCode.putIfAbsent(key, stock.getStockCode());
+            stockCodeToKey.putIfAbsent(stock.getStockCode(), key);
+            listedNameToCode.putIfAbsent(key, stock.getStockCode());
+        }
+
+        for (Map.Entry<String, String> listed : listedNameToCode.entrySet()) {
+            PREFIX_TRANSLITERATIONS.forEach((latin, hangul) -> {
+                if (listed.getKey().startsWith(latin) && listed.getKey().length() > latin.length()) {
+                    keyToCode.putIfAbsent(hangul + listed.getKey().substring(latin.length()), listed.getValue());
+                }
+            });
+        }
+        ALIASES.forEach((alias, listedName) -> {
+            String code = listedNameToCode.get(normalizeName(listedName));
+            if (code != null) {
+                keyToCode.putIfAbsent(normalizeName(alias), code);
+            }
+        });
+
+        return new StockNameMatcher(keyToCode, stockCodeToKey);
+    }
+
+    /**
+     * Resolves stock names as returned by the LLM, in order and without duplicates.
+     * A name resolves when it is a listed name or alias (ignoring case, spacing and "(주)"), a listed stock code,
+     * a listed name followed by a share class ("삼성전자 보통주", "현대차 우선주"), or the start of exactly one company
+     * mentioned in the article ("한화에어로" for 한화에어로스페이스). Everything else is reported as unresolved.
+     */
+    public Resolution resolve(List<String> names, String articleText) {
+        Set<String> resolvedCodes = new LinkedHashSet<>();
+        List<String> unresolvedNames = new ArrayList<>();
+        Set<String> mentionedCodes = null;
+
+        for (String name : names != null ? names : List.<String>of()) {
+            String code = resolve(name);
+            if (code == null && articleText != null) {
+                if (mentionedCodes == null) {
+                    mentionedCodes = findMentionedStockCodes(articleText);
+                }
+                code = resolveByPrefix(normalizeName(name), mentionedCodes);
+            }
+            if (code != null) {
+                resolvedCodes.add(code);
+            } else if (name != null && !name.isBlank()) {
+                unresolvedNames.add(name);
+            }
+        }
+        return new Resolution(new ArrayList<>(resolvedCodes), unresolvedNames);
+    }
+
+    public String resolve(String name) {
+        String key = normalizeName(name);
+        if (key.isEmpty()) {
+            return null;
+        }
+
+        Integer exact = keyIndex.get(key);
+        if (exact != null) {
+            return keyCodes[exact];
+        }
+        if (STOCK_CODE.matcher(key).matches() && stockCodes.contains(key)) {
+            return key;
+        }
+
+        // Only a share class may follow a listed name: "현대건설기계" is not 현대건설, nor "삼성전자서비스" 삼성전자.
+        for (String suffix : SHARE_CLASS_SUFFIXES) {
+            if (key.length() > suffix.length() && key.endsWith(suffix)) {
+                String listedKey = key.substring(0, key.length() - suffix.length());
+                Integer listed = suffix.equals("우선주") ? keyIndex.get(listedKey + "우") : null;
+                if (listed == null) {
+                    listed = keyIndex.get(listedKey);
+                }
+                if (listed != null) {
+                    return keyCodes[listed];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Codes of the listed companies named in the text, in order of first mention.
+     * Overlapping candidates are settled leftmost-longest, and a name must start at a word boundary.
+     * Names shorter than three characters are skipped (see {@link #MIN_MENTION_LENGTH}).
+     */
+    public Set<String> findMentionedStockCodes(String text) {
+        String normalizedText = TextNormalizer.normalize(text);
+        List<int[]> candidates = new ArrayList<>();
+        for (int[] match : matches(normalizedText)) {
+            int start = match[0];
+            if (match[1] - start >= MIN_MENTION_LENGTH
+                    && (start == 0 || !Character.isLetterOrDigit(normalizedText.charAt(start - 1)))) {
+                candidates.add(match);
+            }
+        }
+        candidates.sort(Comparator.<int[]>comparingInt(match -> match[0]).thenComparingInt(match -> match[0] - match[1]));
+
+        Set<String> mentionedCodes = new LinkedHashSet<>();
+        int coveredUntil = 0;
+        for (int[] match : candidates) {
+            if (match[0] >= coveredUntil) {
+                mentionedCodes.add(keyCodes[match[2]]);
+                coveredUntil = match[1];
+            }
+        }
+        return mentionedCodes;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private String resolveByPrefix(String key, Set<String> mentionedCodes) {
+        if (key.length() < 2) {
+            return null;
+        }
+        String found = null;
+        for (String code : mentionedCodes) {
+            String listedKey = stockCodeToKey.get(code);
+            if (listedKey != null && listedKey.startsWith(key)) {
+                if (found != null) {
+                    return null;
+                }
+                found = code;
+            }
+        }
+        return found;
+    }
+
+    // Every key occurrence in the text as {start, end, key index}.
+    private List<int[]> matches(String text) {
+        List<int[]> matches = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            while (state != 0 && step(state, ch) < 0) {
+                state = failure[state];
+            }
+            state = Math.max(step(state, ch), 0);
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s > 0; s = outputLink[s]) {
+                int k = output[s];
+                matches.add(new int[]{i + 1 - keys[k].length(), i + 1, k});
+            }
+        }
+        return matches;
+    }
+
+    private int step(int state, char ch) {
+        Integer next = transitions.get(edge(state, ch));
+        return next != null ? next : -1;
+    }
+
+    private static long edge(int state, char ch) {
+        return ((long) state << 16) | ch;
+    }
+
+    static String normalizeName(String name) {
+        return NAME_NOISE.matcher(TextNormalizer.normalize(name)).replaceAll("");
+    }
+
+    public record Resolution(List<String> stockCodes, List<String> unresolvedNames) {
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.finsightx.finsightx_backend.index;
+
+import com.finsightx.finsightx_backend.domain.Stock;
+
+import java.util.*;
+
+/**
+ * Immutable, versioned view of the stock table, including the {@link StockNameMatcher} built from it.
+ * Replaced as a whole on reload, so readers always see one consistent version.
+ */
+public final class StockReferenceSnapshot {
+
+    private final long version;
+    private final Map<String, String> stockCodeToName;
+    private final Map<String, String> stockCodeToIndustryCode;
+    private final Map<String, String> industryCodeToName;
+    private final StockNameMatcher stockNameMatcher;
+
+    private StockReferenceSnapshot(long version, Map<String, String> stockCodeToName, Map<String, String> stockCodeToIndustryCode,
+                                   Map<String, String> industryCodeToName, StockNameMatcher stockNameMatcher) {
+        this.version = version;
+        this.stockCodeToName = Collections.unmodifiableMap(stockCodeToName);
+        this.stockCodeToIndustryCode = Collections.unmodifiableMap(stockCodeToIndustryCode);
+        this.industryCodeToName = Collections.unmodifiableMap(industryCodeToName);
+        this.stockNameMatcher = stockNameMatcher;
+    }
+
+    public static StockReferenceSnapshot of(long version, Collection<Stock> stocks) {
+        Map<String, String> stockCodeToName = new HashMap<>();
+        Map<String, String> stockCodeToIndustryCode = new HashMap<>();
+        Map<String, String> industryCodeToName = new HashMap<>();
+
+        for (Stock stock : stocks) {
+            stockCodeToName.put(stock.getStockCode(), stock.getStockName());
+            stockCodeToIndustryCode.put(stock.getStockCode(), stock.getIndustryCode());
+            industryCodeToName.putIfAbsent(stock.getIndustryCode(), stock.getIndustryName());
+        }
+
+        return new StockReferenceSnapshot(version, stockCodeToName, stockCodeToIndustryCode, industryCodeToName, StockNameMatcher.of(stocks));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getStockName(String stockCode) {
+        return stockCodeToName.get(stockCode);
+    }
+
+    public String getIndustryCode(String stockCode) {
+        return stockCodeToIndustryCode.get(stockCode);
+    }
+
+    public String getIndustryName(String industryCode) {
+        return industryCodeToName.get(industryCode);
+    }
+
+    public String getStockCode(String stockName) {
+        return stockNameMatcher.resolve(stockName);
+    }
+
+    public Map<String, String> getStockCodeToIndustryCodeMap() {
+        return stockCodeToIndustryCode;
+    }
+
+    public StockNameMatcher getStockNameMatcher() {
+        return stockNameMatcher;
+    }
+
+    public Set<String> getIndustryCodes() {
+        return industryCodeToName.keySet();
+    }
+
+    public int size() {
+        return stockCodeToName.size();
+    }
+
+}
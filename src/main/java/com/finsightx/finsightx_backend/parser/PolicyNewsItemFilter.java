@@ -0,0 +1,48 @@
+package com.finsightx.finsightx_backend.parser;
+
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Item filter applied while the policy news feed is being parsed.
+ * Rejected items are skipped as soon as their GroupingCode or ApproveDate is read,
+ * so their DataContents bodies are never buffered.
+ */
+public class PolicyNewsItemFilter {
+
+    private static final String POLICY_GROUPING_CODE = "policy";
+
+    private final String groupingCodeKeyword;
+    private final OffsetDateTime approvedAfter;
+
+    private PolicyNewsItemFilter(String groupingCodeKeyword, OffsetDateTime approvedAfter) {
+        this.groupingCodeKeyword = groupingCodeKeyword;
+        this.approvedAfter = approvedAfter;
+    }
+
+    public static PolicyNewsItemFilter policyNews() {
+        return new PolicyNewsItemFilter(POLICY_GROUPING_CODE, null);
+    }
+
+    public static PolicyNewsItemFilter policyNewsApprovedAfter(OffsetDateTime approvedAfter) {
+        return new PolicyNewsItemFilter(POLICY_GROUPING_CODE, approvedAfter);
+    }
+
+    // Decides on a partially read item; fields that have not been read yet never cause a rejection.
+    boolean rejectsEarly(PolicyNewsItem partialItem) {
+        if (partialItem.getGroupingCode() != null && !partialItem.getGroupingCode().contains(groupingCodeKeyword)) {
+            return true;
+        }
+        return approvedAfter != null && partialItem.getApproveDate() != null
+                && !partialItem.getApproveDate().isAfter(approvedAfter);
+    }
+
+    boolean accepts(PolicyNewsItem item) {
+        if (item.getGroupingCode() == null || !item.getGroupingCode().contains(groupingCodeKeyword)) {
+            return false;
+        }
+        return approvedAfter == null || (item.getApproveDate() != null && item.getApproveDate().isAfter(approvedAfter));
+    }
+
+}
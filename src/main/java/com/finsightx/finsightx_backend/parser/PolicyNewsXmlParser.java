@@ -0,0 +1,184 @@
+package com.finsightx.finsightx_backend.parser;
+
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsApiResponse;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming (StAX) parser for the policy news API XML response.
+ * Reads straight from the HTTP response stream and keeps only the NewsItems accepted by the filter.
+ */
+@Slf4j
+public class PolicyNewsXmlParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private final DateTimeFormatter apiDateTimeFormatter = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss");
+
+    public PolicyNewsApiResponse parse(InputStream inputStream, PolicyNewsItemFilter filter) throws XMLStreamException {
+        PolicyNewsApiResponse policyNewsApiResponse = new PolicyNewsApiResponse();
+        List<PolicyNewsItem> newsItems = new ArrayList<>();
+        policyNewsApiResponse.setNewsItems(newsItems);
+
+        boolean headerFound = false;
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                String tag = reader.getLocalName();
+                if ("header".equals(tag)) {
+                    headerFound = true;
+                    readHeader(reader, policyNewsApiResponse);
+
+                    String resultCode = policyNewsApiResponse.getResultCode();
+                    String resultMsg = policyNewsApiResponse.getResultMsg();
+                    if (!"0".equals(resultCode) && !"NORMAL_SERVICE".equals(resultMsg)) {
+                        log.warn("Policy news API Error: {} - {}", resultCode, resultMsg);
+                        return policyNewsApiResponse;
+                    }
+                } else if ("NewsItem".equals(tag)) {
+                    PolicyNewsItem item = readNewsItem(reader, filter);
+                    if (item != null) {
+                        newsItems.add(item);
+                    } else {
+                        policyNewsApiResponse.setFilteredItemCount(policyNewsApiResponse.getFilteredItemCount() + 1);
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        if (!headerFound) {
+            log.warn("Missing header tag in API response.");
+            policyNewsApiResponse.setResultCode("98");
+            policyNewsApiResponse.setResultMsg("Missing header tag in API response.");
+        }
+        return policyNewsApiResponse;
+    }
+
+    private void readHeader(XMLStreamReader reader, PolicyNewsApiResponse policyNewsApiResponse) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "header".equals(reader.getLocalName())) {
+                return;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String tag = reader.getLocalName();
+            if ("resultCode".equals(tag)) {
+                policyNewsApiResponse.setResultCode(readText(reader, true));
+            } else if ("resultMsg".equals(tag)) {
+                policyNewsApiResponse.setResultMsg(readText(reader, true));
+            } else {
+                readText(reader, false);
+            }
+        }
+    }
+
+    private PolicyNewsItem readNewsItem(XMLStreamReader reader, PolicyNewsItemFilter filter) throws XMLStreamException {
+        PolicyNewsItem item = new PolicyNewsItem();
+        boolean rejected = false;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "NewsItem".equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String tag = reader.getLocalName();
+            String value = readText(reader, !rejected);
+            if (rejected) {
+                continue;
+            }
+
+            setField(item, tag, value);
+            rejected = filter.rejectsEarly(item);
+        }
+
+        return !rejected && filter.accepts(item) ? item : null;
+    }
+
+    private void setField(PolicyNewsItem item, String tag, String value) {
+        switch (tag) {
+            case "NewsItemId" -> item.setNewsItemId(value);
+            case "ContentsStatus" -> item.setContentsStatus(value);
+            case "ModifyId" -> item.setModifyId(value);
+            case "ApproveDate" -> item.setApproveDate(parseDateString(value));
+            case "ApproverName" -> item.setApproverName(value);
+            case "EmbargoDate" -> item.setEmbargoDate(value);
+            case "GroupingCode" -> item.setGroupingCode(value);
+            case "Title" -> item.setTitle(value);
+            case "SubTitle1" -> item.setSubTitle1(value);
+            case "SubTitle2" -> item.setSubTitle2(value);
+            case "SubTitle3" -> item.setSubTitle3(value);
+            case "ContentsType" -> item.setContentsType(value);
+            case "DataContents" -> item.setDataContents(value);
+            case "MinisterCode" -> item.setMinisterCode(value);
+            case "OriginalUrl" -> item.setOriginalUrl(value);
+            case "ThumbnailUrl" -> item.setThumbnailUrl(value);
+            case "OriginalimgUrl" -> item.setOriginalImgUrl(value);
+            default -> {
+            }
+        }
+    }
+
+    // Reads up to the matching end tag. When collect is false the text is skipped without buffering.
+    private String readText(XMLStreamReader reader, boolean collect) throws XMLStreamException {
+        StringBuilder text = collect ? new StringBuilder() : null;
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (collect && depth == 1 && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                text.append(reader.getText());
+            }
+        }
+        return collect && !text.isEmpty() ? text.toString() : null;
+    }
+
+    private OffsetDateTime parseDateString(String dateString) {
+        if (dateString == null || dateString.isEmpty()) {
+            return null;
+        }
+        try {
+            LocalDateTime localDateTime = LocalDateTime.parse(dateString, apiDateTimeFormatter);
+            return localDateTime.atZone(ZoneId.of("Asia/Seoul")).toOffsetDateTime();
+        } catch (Exception e) {
+            log.warn("Date string parsing error: '{}'", dateString, e);
+            return null;
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+}
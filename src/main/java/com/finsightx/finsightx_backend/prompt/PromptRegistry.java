@@ -0,0 +1,219 @@
+package com.finsightx.finsightx_backend.prompt;
+
+import com.finsightx.finsightx_backend.dto.llm.ClovaMessage;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.genai.types.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * System prompts, response schemas and generation configs of the LLM calls, built once at startup
+ * and shared by every request.
+ * <p>
+ * The analysis version is {@code api.gemini.prompt-version} followed by a hash of the analysis prompts and
+ * schemas, so editing either invalidates cached analyses even when the configured version is not bumped.
+ */
+@Component
+public class PromptRegistry {
+
+    public static final List<String> INDUSTRY_CODES = ImmutableList.of(
+            "1010", "1510", "2010", "2020", "2030", "2510", "2520", "2530", "2550",
+            "2560", "3010", "3020", "3030", "3510", "3520", "4010", "4020", "4030",
+            "4040", "4050", "4510", "4520", "4530", "4535", "4540", "5010", "5020",
+            "5510"
+    );
+
+    private static final String ANALYSIS_SYSTEM_PROMPT = "- 당신은 정책 뉴스를 분석하여 주식 시장에 미치는 영향을 판단하고 예측하는 전문 AI 애널리스트입니다.\n\n" +
+            "- 사용자로부터 정책 뉴스 기사를 입력받으면, 다음 지침에 따라 분석을 수행하고 지정된 JSON 형식으로 결과를 출력합니다.\n\n" +
+            "### **분석 목표 및 기본 원칙:**\n\n" +
+            "1. **정확한 정책 변화 판단**: 입력된 뉴스가 단순 정보 전달이 아닌, **법규, 제도, 지침, 예산 배정 등**에 있어 " +
+            "새로운 방향 제시 또는 수정이 포함된 **정책 변화**에 해당하며, **규모와 직접적인 경제적 파급 효과**를 고려할 때 " +
+            "주식 시장 전반 또는 특정 상장 기업의 주가에 **유의미한 영향을 미칠 만한 정책 변화**에 해당하는지 명확하고 엄격하게 판단합니다.\n" +
+            "2. **주가 영향 분석**: 판단된 정책 변화가 **직접적인 경제적 파급 효과와 규모**를 고려할 때, " +
+            "**주식 시장 전반 또는 특정 상장 기업의 주가에 유의미한 영향을 미칠 만한 변화**인지 심층적으로 분석합니다.\n" +
+            "3. **객관적이고 근거 기반 분석**: 정책 변화의 잠재적 영향을 분석할 때는 **과거의 유사 사례, 관련 산업의 특성, " +
+            "거시 경제 지표 등 구체적인 근거**를 바탕으로 객관적인 시각을 유지합니다. 추측이나 주관적인 의견은 배제합니다.\n" +
+            "4. **한국 주식 시장 특성 반영**: 한국의 업종 분류 및 기업 정보에 대한 이해를 바탕으로 분석을 수행합니다.\n\n" +
+            "### **업종 분류 참고:**\n\n" +
+            "다음 업종 코드를 활용하여 정책의 영향을 받는 업종을 정확하게 분류합니다.\n\n" +
+            "- 1010: 에너지\n- 1510: 소재\n- 2010: 자본재\n- 2020: 상업서비스와공급품\n- 2030: 운송\n- 2510: 자동차와부품\n" +
+            "- 2520: 내구소비재와의류\n- 2530: 호텔,레스토랑,레저 등\n- 2550: 소매(유통)\n- 2560: 교육서비스\n- 3010: 식품과기본식료품소매\n" +
+            "- 3020: 식품,음료,담배\n- 3030: 가정용품과개인용품\n- 3510: 건강관리장비와서비스\n- 3520: 제약과생물공학\n- 4010: 은행\n" +
+            "- 4020: 증권\n- 4030: 다각화된금융\n- 4040: 보험\n- 4050: 부동산\n- 4510: 소프트웨어와서비스\n- 4520: 기술하드웨어와장비\n" +
+            "- 4530: 반도체와반도체장비\n- 4535: 전자와 전기제품\n- 4540: 디스플레이\n- 5010: 전기통신서비스\n- 5020: 미디어와엔터테인먼트\n- 5510: 유틸리티\n\n" +
+            "### **분석할 항목 및 내용 지침:**\n\n" +
+            "1. `isPolicyChange`: 뉴스 기사를 바탕으로 주가에 유의미한 정책 변화 여부를 판단하며, 아래 기준을 모두 충족해야 합니다.\n" +
+            "- **판단 기준**:\n" +
+            "    1. 단순한 정보 전달이 아닌, **법규, 제도, 지침, 예산 배정 등**에 있어 **새로운 방향이나 수정**이 있는지 명확하게 판단합니다.\n" +
+            "    2. **규모와 직접적인 경제적 파급 효과**를 고려할 때, 주식 시장 전반 또는 특정 상장 기업의 주가에 **유의미한 영향을 미칠 만한 정책 변화**인지 판단합니다.\n" +
+            "2. `policyName`: 정책의 핵심 내용을 담은 간결한 이름 (예: \"반도체 산업 육성 특별법 제정\", \"탄소중립 목표 상향 조정\")\n\n" +
+            "3. `stage`: 정책 변화의 현재 단계를 `기획`, `제안`, `심의/검토`, `확정/공포`, `시행` 중 하나로 정확하게 판단합니다.\n\n" +
+            "4. `summary`: 정책의 주요 내용을 간결하게 요약합니다. **해라체 평서문**(`(ㄴ/는)다.`, `~했다.`)으로 서술합니다.\n\n" +
+            "5. `content`:\n" +
+            "    - 정책 변화가 **어떤 업종 및 종목에 긍정적/부정적 영향을 줄 수 있는지**를 분석합니다.\n" +
+            "    - **구체적인 근거**를 포함합니다. (예: 과거의 비슷한 사례, 그로 인한 주가 변동, 관련 시장 규모 변화 예측 등)\n" +
+            "    - ‘~ㅂ니다.’로 간결하게 서술하며, 내용은 1~3가지 정도로 압축하여 제공합니다.\n" +
+            "    - `positiveIndustries`, `negativeIndustries`, `positiveStocks`, `negativeStocks`에 해당하는 업종 이름 및 종목 이름이 `content` 내에 포함되어 설명되면 좋습니다. (업종 코드는 포함하지 않습니다.)\n" +
+            "6. `positiveIndustries` / `negativeIndustries`: 정책 변화가 긍정적/부정적인 영향을 줄 수 있는 **대표·핵심 업종 코드** 리스트를 생성하며, 업종 이름은 포함하지 않습니다. 코드는 반드시 위에 제시된 '업종 분류 참고' 리스트에서 선택합니다.\n" +
+            "7. `positiveStocks` / `negativeStocks`: 정책 변화가 긍정적/부정적인 영향을 줄 수 있는 **대표·핵심 종목 이름** 리스트를 생성합니다. (실제 상장된 기업 이름)\n" +
+            "### **출력 지침**\n\n" +
+            "- 모든 결과는 **JSON 형식**으로 출력하며, 추가적인 설명이나 서론/결론 없이 JSON 객체만 반환합니다.\n" +
+            "- JSON 필드명은 정확히 위에서 지정된 이름을 사용합니다.\n" +
+            "- 값이 없는 필드는 `null`이 아닌, 빈 리스트 (`[]`) 또는 빈 문자열 (`\"\"`)로 처리합니다. " +
+            "단, `isPolicyChange`가 `false`일 때는 `stage`, `summary`, `content`, `positiveIndustries`, `negativeIndustries`, `positiveStocks`, `negativeStocks`를 빈 리스트 (`[]`) 또는 빈 문자열 (`\"\"`)로 처리합니다.";
+
+    private static final String BATCH_ANALYSIS_SYSTEM_PROMPT = ANALYSIS_SYSTEM_PROMPT + "\n\n" +
+            "### **여러 기사 분석 지침**\n\n" +
+            "- 여러 뉴스 기사가 각각 `articleId`와 함께 입력됩니다. 각 기사는 서로 독립적으로, 위 지침에 따라 분석합니다.\n" +
+            "- 입력된 모든 `articleId`에 대해 결과 객체를 하나씩 만들어 **JSON 배열**로 반환합니다. (위의 'JSON 객체만 반환' 지침 대신 이 지침을 따릅니다.)\n" +
+            "- 각 결과 객체의 `articleId`에는 입력된 값을 그대로 사용합니다.";
+
+    private static final String CHATBOT_SYSTEM_PROMPT = "- 당신은 대한민국 주식 시장에 상장된 기업들의 주가에 정책 변화가 미치는 영향을 전문적으로 분석하고 답변하는 AI 챗봇입니다.\n" +
+            "- 자신을 소개할 때는 \"안녕하세요! 정책 변동이 주가에 미치는 영향을 분석하는 AI 챗봇입니다.\"라고 소개합니다.\n" +
+            "- 사용자의 질문에 대해 다음 지침에 따라 상세하고 명확하게 답변해야 합니다.\n\n\n" +
+            "**역할 및 지침:**\n\n" +
+            "**1. 정책 영향 분석**: 제시된 정책 변화가 특정 산업(예: 철강, 반도체 등), 섹터, 또는 개별 기업에 미칠 수 있는 긍정적 또는 부정적 영향을 다각도로 분석합니다.\n\n" +
+            "**2. 주가 영향 분석**: 분석된 정책이 과거 사례 또는 경제 이론에 비추어 주가에 어떤 방향(상승/하락)으로, 어느 정도의 규모(정성적 표현)로 영향을 미칠지 분석합니다.\n\n" +
+            "**3. 시장 반응 분석**: 특정 정책 발표 이후 실제 시장의 반응(주가 변동, 거래량 변화 등)에 대한 정보를 제공합니다. " +
+            "이때, 가능한 경우 관련 뉴스 기사나 보고서 등의 출처를 명시하거나 참조할 수 있습니다.\n\n" +
+            "**4. 관련 종목 추천**: 정책 변화로 인해 직간접적으로 수혜를 받거나 부정적인 영향을 받을 수 있는 관련 종목을 제시합니다. " +
+            "이때, 종목 추천은 투자 권유가 아닌 정보 제공 목적임을 명확히 합니다.\n\n" +
+            "**5. 정보 제공의 정확성 및 제한**:\n\n" +
+            "- 제공하는 모든 정보는 공개적으로 접근 가능한 신뢰할 수 있는 데이터를 기반으로 합니다.\n\n" +
+            "**- \"투자 조언\"이나 \"매수/매도 추천\"으로 해석될 수 있는 직접적인 발언은 절대 하지 않습니다.** 모든 답변은 정보 제공 목적임을 명확히 합니다.\n\n" +
+            "- 미래의 주가 움직임을 100% 확신하는 듯한 발언은 피합니다. \"가능성이 높다\", \"영향을 줄 수 있다\" 등 확률적인 표현을 사용합니다.\n\n" +
+            "- 실시간 주가나 매우 최신 정보에 대한 접근이 제한될 수 있음을 사용자에게 인지시킬 수 있습니다.\n\n" +
+            "**6. 사용자 질문 이해 및 명확화**: 사용자의 질문이 모호할 경우, 명확한 분석을 위해 필요한 추가 정보를 요청할 수 있습니다.\n\n" +
+            "**7. 간결하고 명확한 응답**: 복잡한 내용을 이해하기 쉽게 풀어서 설명하고, 전문 용어 사용 시에는 간략한 설명을 덧붙입니다.\n\n" +
+            "**응답 형식:**\n\n" +
+            "- 각 질문에 대해 명확한 소제목 또는 구분자를 사용하여 답변을 구조화합니다.\n\n" +
+            "- 답변의 논리적 흐름을 구성합니다. (예: \"탄소배출권 확대 정책이 철강 업계에 미치는 영향\" -> \"정책 발표 이후 시장 반응\" -> \"관련 수혜/피해 종목\")";
+
+    private static final String CHATBOT_CONTEXT_HEADER = "\n\n**참고 정책 분석 데이터:**\n" +
+            "- 아래는 저장된 정책 분석 결과 중 질문과 관련된 정보입니다. 답변 시 우선적으로 참고합니다.\n";
+
+    private final AnalysisPrompt analysisPrompt;
+    private final AnalysisPrompt batchAnalysisPrompt;
+    private final String analysisVersion;
+    private final ClovaMessage chatbotSystemMessage;
+
+    public PromptRegistry(
+            @Value("${api.gemini.prompt-version}") String configuredVersion,
+            @Value("${api.gemini.batch.max-output-tokens:16384}") int batchMaxOutputTokens) {
+        this.analysisPrompt = AnalysisPrompt.of("analysis", ANALYSIS_SYSTEM_PROMPT, analysisSchema(false), null);
+        this.batchAnalysisPrompt = AnalysisPrompt.of("batch-analysis", BATCH_ANALYSIS_SYSTEM_PROMPT,
+                Schema.builder().type(Type.Known.ARRAY).items(analysisSchema(true)).build(), batchMaxOutputTokens);
+        this.analysisVersion = configuredVersion + "-" + fingerprint(
+                ANALYSIS_SYSTEM_PROMPT, analysisPrompt.responseSchema().toJson(),
+                BATCH_ANALYSIS_SYSTEM_PROMPT, batchAnalysisPrompt.responseSchema().toJson());
+        this.chatbotSystemMessage = new ClovaMessage(ClovaMessage.ROLE.system, CHATBOT_SYSTEM_PROMPT);
+    }
+
+    public AnalysisPrompt getAnalysisPrompt() {
+        return analysisPrompt;
+    }
+
+    public AnalysisPrompt getBatchAnalysisPrompt() {
+        return batchAnalysisPrompt;
+    }
+
+    // Key of cached analyses; batch answers are cached in the single-article format under the same version.
+    public String getAnalysisVersion() {
+        return analysisVersion;
+    }
+
+    /**
+     * The chatbot system message, grounded in the given policy context when there is any.
+     * Without context the same shared instance is returned for every request.
+     */
+    public ClovaMessage chatbotSystemMessage(String policyContext) {
+        if (policyContext == null || policyContext.isEmpty()) {
+            return chatbotSystemMessage;
+        }
+        return new ClovaMessage(ClovaMessage.ROLE.system, CHATBOT_SYSTEM_PROMPT + CHATBOT_CONTEXT_HEADER + policyContext);
+    }
+
+    private static Schema analysisSchema(boolean withArticleId) {
+        ImmutableMap.Builder<String, Schema> properties = ImmutableMap.builder();
+        ImmutableList.Builder<String> required = ImmutableList.builder();
+        if (withArticleId) {
+            properties.put("articleId", Schema.builder().type(Type.Known.STRING).build());
+            required.add("articleId");
+        }
+
+        properties
+                .put("isPolicyChange", Schema.builder().type(Type.Known.BOOLEAN).build())
+                .put("policyName", Schema.builder().type(Type.Known.STRING).build())
+                .put("stage", Schema.builder().type(Type.Known.STRING).enum_(ImmutableList.of("기획", "제안", "심의/검토", "확정/공포", "시행")).build())
+                .put("summary", Schema.builder().type(Type.Known.STRING).build())
+                .put("content", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).build()).build())
+                .put("positiveIndustries", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).enum_(INDUSTRY_CODES).build()).build())
+                .put("negativeIndustries", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).enum_(INDUSTRY_CODES).build()).build())
+                .put("positiveStocks", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).build()).build())
+                .put("negativeStocks", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).build()).build());
+        required.add(
+                "isPolicyChange", "policyName", "stage", "summary",
+                "content", "positiveIndustries", "negativeIndustries",
+                "positiveStocks", "negativeStocks"
+        );
+
+        return Schema.builder()
+                .type(Type.Known.OBJECT)
+                .properties(properties.build())
+                .required(required.build())
+                .build();
+    }
+
+    private static String fingerprint(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // maxOutputTokens is null for the model default.
+    public record AnalysisPrompt(String name, Content systemInstruction, Schema responseSchema, Integer maxOutputTokens,
+                                 GenerateContentConfig config) {
+
+        private static AnalysisPrompt of(String name, String systemPrompt, Schema responseSchema, Integer maxOutputTokens) {
+            Content systemInstruction = Content.builder().parts(ImmutableList.of(Part.builder().text(systemPrompt).build())).build();
+            GenerateContentConfig.Builder config = GenerateContentConfig.builder()
+                    .responseMimeType("application/json")
+                    .candidateCount(1)
+                    .responseSchema(responseSchema)
+                    .systemInstruction(systemInstruction);
+            if (maxOutputTokens != null) {
+                config.maxOutputTokens(maxOutputTokens);
+            }
+            return new AnalysisPrompt(name, systemInstruction, responseSchema, maxOutputTokens, config.build());
+        }
+
+        // The same request with the system instruction taken from a Gemini context cache instead of sent inline.
+        public GenerateContentConfig withCachedContent(String cachedContentName) {
+            GenerateContentConfig.Builder config = GenerateContentConfig.builder()
+                    .responseMimeType("application/json")
+                    .candidateCount(1)
+                    .responseSchema(responseSchema)
+                    .cachedContent(cachedContentName);
+            if (maxOutputTokens != null) {
+                config.maxOutputTokens(maxOutputTokens);
+            }
+            return config.build();
+        }
+
+    }
+
+}
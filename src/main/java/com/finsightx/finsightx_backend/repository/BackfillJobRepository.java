@@ -0,0 +1,52 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.BackfillJob;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BackfillJobRepository extends JpaRepository<BackfillJob, Long> {
+
+    List<BackfillJob> findByOrderByCreatedAtDesc();
+
+    @Query(value = "SELECT job_id FROM backfill_job WHERE status = 'PENDING' " +
+            "OR (status = 'RUNNING' AND (heartbeat_at IS NULL OR heartbeat_at < :staleBefore))",
+            nativeQuery = true)
+    List<Long> findResumableJobIds(@Param("staleBefore") OffsetDateTime staleBefore);
+
+    // Takes ownership of a job unless another instance is running it and still sending heartbeats.
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE backfill_job SET status = 'RUNNING', heartbeat_at = :now, updated_at = :now " +
+            "WHERE job_id = :jobId AND (status = 'PENDING' " +
+            "   OR (status = 'RUNNING' AND (heartbeat_at IS NULL OR heartbeat_at < :staleBefore)))",
+            nativeQuery = true)
+    int claim(@Param("jobId") Long jobId, @Param("now") OffsetDateTime now, @Param("staleBefore") OffsetDateTime staleBefore);
+
+    // Appends atomically so concurrent day tasks of the same job never overwrite each other's checkpoints.
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE backfill_job SET " +
+            "  completed_dates = completed_dates || to_jsonb(CAST(:date AS text)), " +
+            "  processed_items = processed_items + :processedItems, " +
+            "  updated_at = :now " +
+            "WHERE job_id = :jobId",
+            nativeQuery = true)
+    int checkpointDay(@Param("jobId") Long jobId, @Param("date") String date,
+                      @Param("processedItems") int processedItems, @Param("now") OffsetDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE backfill_job SET heartbeat_at = :now WHERE job_id IN (:jobIds) AND status = 'RUNNING'",
+            nativeQuery = true)
+    int heartbeat(@Param("jobIds") Collection<Long> jobIds, @Param("now") OffsetDateTime now);
+
+}
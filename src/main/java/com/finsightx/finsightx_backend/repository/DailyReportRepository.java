@@ -1,34 +1,40 @@
 package com.finsightx.finsightx_backend.repository;
 
 import com.finsightx.finsightx_backend.domain.DailyReport;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DailyReportRepository extends JpaRepository<DailyReport, Long> {
 
     List<DailyReport> findByOrderByCreatedAtDesc();
 
-    @Query(value = "SELECT DISTINCT dr.* FROM daily_report dr " +
-            "LEFT JOIN policy_info pi ON EXISTS (SELECT 1 FROM jsonb_array_elements_text(dr.policies) AS elem WHERE elem = pi.policy_id::text) " +
-            "LEFT JOIN stock s ON " +
-            "  (EXISTS (SELECT 1 FROM jsonb_array_elements_text(pi.positive_stocks) AS elem WHERE elem = s.stock_code) OR " +
-            "   EXISTS (SELECT 1 FROM jsonb_array_elements_text(pi.negative_stocks) AS elem WHERE elem = s.stock_code) OR " +
-            "   EXISTS (SELECT 1 FROM jsonb_array_elements_text(pi.positive_industries) AS elem WHERE elem = s.industry_code) OR " +
-            "   EXISTS (SELECT 1 FROM jsonb_array_elements_text(pi.negative_industries) AS elem WHERE elem = s.industry_code)) " +
-            "WHERE LOWER(dr.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "      LOWER(pi.policy_name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "      LOWER(pi.stage) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "      LOWER(pi.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "      LOWER(CAST(pi.content AS text)) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "      LOWER(s.stock_name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "      LOWER(s.industry_name) LIKE LOWER(CONCAT('%', :keyword, '%'))",
-            nativeQuery = true)
-    List<DailyReport> searchDailyReports(@Param("keyword") String keyword);
+    Optional<DailyReport> findFirstByCreatedAt(OffsetDateTime createdAt);
+
+    List<DailyReport> findByOrderByCreatedAtDescReportIdDesc(Limit limit);
 
+    @Query("SELECT dr FROM DailyReport dr " +
+            "WHERE dr.createdAt < :createdAt OR (dr.createdAt = :createdAt AND dr.reportId < :reportId) " +
+            "ORDER BY dr.createdAt DESC, dr.reportId DESC")
+    List<DailyReport> findPageBefore(@Param("createdAt") OffsetDateTime createdAt,
+                                     @Param("reportId") Long reportId,
+                                     Limit limit);
+
+    // The bigram containment is served by the GIN index and the LIKE re-checks the exact phrase on the candidates.
+    // Bigrams are space-separated; the pattern must already be normalized and LIKE-escaped. See DailyReportSearchService.
+    @Query(value = "SELECT dr.* FROM daily_report dr " +
+            "JOIN daily_report_search_document d ON d.report_id = dr.report_id " +
+            "WHERE d.bigrams @> string_to_array(:bigrams, ' ') " +
+            "  AND d.document LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "ORDER BY dr.created_at DESC, dr.report_id DESC",
+            nativeQuery = true)
+    List<DailyReport> searchByDocument(@Param("bigrams") String bigrams, @Param("pattern") String pattern);
 
 }
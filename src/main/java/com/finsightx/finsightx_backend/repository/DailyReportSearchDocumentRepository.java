@@ -0,0 +1,20 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.DailyReportSearchDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DailyReportSearchDocumentRepository extends JpaRepository<DailyReportSearchDocument, Long> {
+
+    // Also returns reports indexed before documents carried their bigrams.
+    @Query(value = "SELECT dr.report_id FROM daily_report dr " +
+            "WHERE NOT EXISTS (SELECT 1 FROM daily_report_search_document d " +
+            "                  WHERE d.report_id = dr.report_id AND d.bigrams IS NOT NULL)",
+            nativeQuery = true)
+    List<Long> findReportIdsWithoutDocument();
+
+}
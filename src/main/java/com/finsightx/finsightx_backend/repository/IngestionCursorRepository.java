@@ -0,0 +1,27 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.IngestionCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface IngestionCursorRepository extends JpaRepository<IngestionCursor, String> {
+
+    // Never moves the cursor backwards when several instances advance it concurrently.
+    @Modifying
+    @Query(value = "INSERT INTO ingestion_cursor (cursor_name, last_processed_at, updated_at) " +
+            "VALUES (:cursorName, :lastProcessedAt, :updatedAt) " +
+            "ON CONFLICT (cursor_name) DO UPDATE SET " +
+            "  last_processed_at = GREATEST(ingestion_cursor.last_processed_at, EXCLUDED.last_processed_at), " +
+            "  updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int advance(@Param("cursorName") String cursorName,
+                @Param("lastProcessedAt") OffsetDateTime lastProcessedAt,
+                @Param("updatedAt") OffsetDateTime updatedAt);
+
+}
@@ -0,0 +1,9 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.NewsClassifierModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsClassifierModelRepository extends JpaRepository<NewsClassifierModel, String> {
+}
@@ -1,6 +1,7 @@
 package com.finsightx.finsightx_backend.repository;
 
 import com.finsightx.finsightx_backend.domain.PolicyInfo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,4 +14,6 @@ public interface PolicyInfoRepository extends JpaRepository<PolicyInfo, Long> {
     List<PolicyInfo> findByPolicyIdIn(List<Long> ids);
 
     List<PolicyInfo> findByCreatedAtBetween(OffsetDateTime start, OffsetDateTime end);
+
+    List<PolicyInfo> findByOrderByCreatedAtDesc(Limit limit);
 }
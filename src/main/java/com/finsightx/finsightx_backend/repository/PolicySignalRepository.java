@@ -1,14 +1,29 @@
 package com.finsightx.finsightx_backend.repository;
 
 import com.finsightx.finsightx_backend.domain.PolicySignal;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 @Repository
-public interface PolicySignalRepository extends JpaRepository<PolicySignal, Long> {
+public interface PolicySignalRepository extends JpaRepository<PolicySignal, Long>, PolicySignalRepositoryCustom {
 
     List<PolicySignal> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    List<PolicySignal> findByUserIdOrderByCreatedAtDescPolicySignalIdDesc(Long userId, Limit limit);
+
+    @Query("SELECT ps FROM PolicySignal ps " +
+            "WHERE ps.userId = :userId " +
+            "AND (ps.createdAt < :createdAt OR (ps.createdAt = :createdAt AND ps.policySignalId < :policySignalId)) " +
+            "ORDER BY ps.createdAt DESC, ps.policySignalId DESC")
+    List<PolicySignal> findPageBefore(@Param("userId") Long userId,
+                                      @Param("createdAt") OffsetDateTime createdAt,
+                                      @Param("policySignalId") Long policySignalId,
+                                      Limit limit);
+
 }
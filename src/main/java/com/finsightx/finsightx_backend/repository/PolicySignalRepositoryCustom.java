@@ -0,0 +1,11 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.PolicySignal;
+
+import java.util.List;
+
+public interface PolicySignalRepositoryCustom {
+
+    int batchInsert(List<PolicySignal> policySignals, int batchSize);
+
+}
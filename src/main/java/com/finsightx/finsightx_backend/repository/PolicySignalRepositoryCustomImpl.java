@@ -0,0 +1,61 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsightx.finsightx_backend.domain.PolicySignal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PolicySignalRepositoryCustomImpl implements PolicySignalRepositoryCustom {
+
+    // policy_signal_id is an IDENTITY column, which disables Hibernate insert batching,
+    // so bulk inserts go through JDBC batches (rewritten to multi-row INSERTs by reWriteBatchedInserts).
+    private static final String INSERT_SQL = "INSERT INTO policy_signal " +
+            "(user_id, message, policy_id, created_at, is_read, stock_names) " +
+            "VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public int batchInsert(List<PolicySignal> policySignals, int batchSize) {
+        if (policySignals == null || policySignals.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, policySignals, batchSize, (ps, signal) -> {
+            ps.setLong(1, signal.getUserId());
+            ps.setString(2, signal.getMessage());
+            ps.setLong(3, signal.getPolicyId());
+            ps.setObject(4, signal.getCreatedAt());
+            ps.setBoolean(5, Boolean.TRUE.equals(signal.getIsRead()));
+            ps.setString(6, toJson(signal.getStockNames()));
+        });
+
+        return countInserted(results, policySignals.size());
+    }
+
+    private int countInserted(int[][] results, int requested) {
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // Rewritten multi-row batches report SUCCESS_NO_INFO (-2) instead of a row count.
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return Math.min(inserted, requested);
+    }
+
+    private String toJson(List<String> stockNames) {
+        try {
+            return objectMapper.writeValueAsString(stockNames != null ? stockNames : Collections.emptyList());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error converting List<String> to JSONB String", e);
+        }
+    }
+
+}
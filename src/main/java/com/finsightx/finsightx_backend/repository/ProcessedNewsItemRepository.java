@@ -0,0 +1,41 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.ProcessedNewsItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProcessedNewsItemRepository extends JpaRepository<ProcessedNewsItem, String> {
+
+    List<ProcessedNewsItem> findByNewsItemIdIn(Collection<String> newsItemIds);
+
+    List<ProcessedNewsItem> findByStatusAndNextRetryAtLessThanEqualOrderByNextRetryAtAsc(
+            ProcessedNewsItem.Status status, OffsetDateTime now, Limit limit);
+
+    // Inserts a new claim, or takes over a FAILED item or an IN_PROGRESS claim whose lease has expired.
+    // A FAILED item is only taken over once its retry is due and it has attempts left, unless ignoreRetrySchedule is set.
+    // Returns 0 when another instance already owns or finished the item.
+    @Modifying
+    @Query(value = "INSERT INTO processed_news_item (news_item_id, status, claimed_at) " +
+            "VALUES (:newsItemId, 'IN_PROGRESS', :now) " +
+            "ON CONFLICT (news_item_id) DO UPDATE SET status = 'IN_PROGRESS', claimed_at = EXCLUDED.claimed_at " +
+            "WHERE (processed_news_item.status = 'FAILED' AND (:ignoreRetrySchedule " +
+            "        OR ((processed_news_item.next_retry_at IS NULL OR processed_news_item.next_retry_at <= :now) " +
+            "            AND processed_news_item.attempt_count < :maxAttempts))) " +
+            "   OR (processed_news_item.status = 'IN_PROGRESS' AND processed_news_item.claimed_at < :staleBefore)",
+            nativeQuery = true)
+    int claim(@Param("newsItemId") String newsItemId,
+              @Param("now") OffsetDateTime now,
+              @Param("staleBefore") OffsetDateTime staleBefore,
+              @Param("maxAttempts") int maxAttempts,
+              @Param("ignoreRetrySchedule") boolean ignoreRetrySchedule);
+
+}
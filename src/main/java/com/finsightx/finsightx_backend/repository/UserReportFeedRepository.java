@@ -0,0 +1,25 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.UserReportFeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserReportFeedRepository extends JpaRepository<UserReportFeed, Long>, UserReportFeedRepositoryCustom {
+
+    List<UserReportFeed> findByUserIdOrderByReportCreatedAtDescReportIdDesc(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserReportFeed f WHERE f.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserReportFeed f WHERE f.reportId = :reportId")
+    int deleteByReportId(@Param("reportId") Long reportId);
+
+}
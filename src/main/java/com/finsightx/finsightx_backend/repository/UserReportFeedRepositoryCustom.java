@@ -0,0 +1,11 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.finsightx.finsightx_backend.domain.UserReportFeed;
+
+import java.util.List;
+
+public interface UserReportFeedRepositoryCustom {
+
+    int batchInsert(List<UserReportFeed> entries, int batchSize);
+
+}
@@ -0,0 +1,57 @@
+package com.finsightx.finsightx_backend.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsightx.finsightx_backend.domain.UserReportFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserReportFeedRepositoryCustomImpl implements UserReportFeedRepositoryCustom {
+
+    // feed_id is an IDENTITY column, so feed rows are batched through JDBC like policy signals
+    // (see PolicySignalRepositoryCustomImpl).
+    private static final String INSERT_SQL = "INSERT INTO user_report_feed " +
+            "(user_id, report_id, report_created_at, title, industry_names, stock_names) " +
+            "VALUES (?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public int batchInsert(List<UserReportFeed> entries, int batchSize) {
+        if (entries == null || entries.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, entries, batchSize, (ps, entry) -> {
+            ps.setLong(1, entry.getUserId());
+            ps.setLong(2, entry.getReportId());
+            ps.setObject(3, entry.getReportCreatedAt());
+            ps.setString(4, entry.getTitle());
+            ps.setString(5, toJson(entry.getIndustryNames()));
+            ps.setString(6, toJson(entry.getStockNames()));
+        });
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // Rewritten multi-row batches report SUCCESS_NO_INFO (-2) instead of a row count.
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return Math.min(inserted, entries.size());
+    }
+
+    private String toJson(List<String> names) {
+        try {
+            return objectMapper.writeValueAsString(names != null ? names : Collections.emptyList());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error converting List<String> to JSONB String", e);
+        }
+    }
+
+}
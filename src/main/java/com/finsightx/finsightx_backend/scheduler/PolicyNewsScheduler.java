@@ -36,4 +36,12 @@ public class PolicyNewsScheduler {
         }
     }
 
+    @Scheduled(fixedDelayString = "${ingestion.retry.interval-ms:300000}", initialDelayString = "${ingestion.retry.interval-ms:300000}")
+    public void scheduleFailedNewsRetry() {
+        int retriedCount = policyNewsService.retryFailedNewsItems();
+        if (retriedCount > 0) {
+            log.info("Failed policy news retry complete: {} items handled.", retriedCount);
+        }
+    }
+
 }
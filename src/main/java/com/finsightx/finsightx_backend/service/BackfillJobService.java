@@ -0,0 +1,236 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.domain.BackfillJob;
+import com.finsightx.finsightx_backend.dto.response.BackfillJobResponse;
+import com.finsightx.finsightx_backend.repository.BackfillJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Background range backfill of policy news analysis.
+ * A job is split into per-day tasks; each finished day is checkpointed on the job row
+ * and each news item is checkpointed through the processed_news_item claims,
+ * so a job interrupted by a crash resumes where it stopped.
+ */
+@Service
+@Slf4j
+public class BackfillJobService {
+
+    private final BackfillJobRepository backfillJobRepository;
+    private final PolicyNewsService policyNewsService;
+
+    private final int maxConcurrency;
+    private final long staleMinutes;
+
+    private final ExecutorService jobExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("backfill-job-"));
+    private final Set<Long> activeJobIds = ConcurrentHashMap.newKeySet();
+
+    public BackfillJobService(
+            BackfillJobRepository backfillJobRepository,
+            PolicyNewsService policyNewsService,
+            @Value("${backfill.max-concurrency:4}") int maxConcurrency,
+            @Value("${backfill.stale-minutes:5}") long staleMinutes,
+            @Value("${ingestion.claim-lease-minutes:30}") long claimLeaseMinutes,
+            @Value("${backfill.heartbeat-interval-ms:60000}") long heartbeatIntervalMs) {
+        this.backfillJobRepository = backfillJobRepository;
+        this.policyNewsService = policyNewsService;
+        this.maxConcurrency = maxConcurrency;
+        // A dead job is only resumed once the news item claims it made after its last heartbeat have expired;
+        // otherwise the resumed run could not re-claim them and would checkpoint days without those items.
+        long minStaleMinutes = claimLeaseMinutes + TimeUnit.MILLISECONDS.toMinutes(heartbeatIntervalMs) + 1;
+        if (staleMinutes < minStaleMinutes) {
+            log.info("backfill.stale-minutes {} is shorter than the news item claim lease; using {}.", staleMinutes, minStaleMinutes);
+        }
+        this.staleMinutes = Math.max(staleMinutes, minStaleMinutes);
+    }
+
+    public BackfillJob startJob(LocalDate startDate, LocalDate endDate, Integer concurrency) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate.");
+        }
+        int jobConcurrency = concurrency != null ? concurrency : 1;
+        if (jobConcurrency < 1 || jobConcurrency > maxConcurrency) {
+            throw new IllegalArgumentException("concurrency must be between 1 and " + maxConcurrency + ".");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
+        BackfillJob job = new BackfillJob();
+        job.setStartDate(startDate);
+        job.setEndDate(endDate);
+        job.setConcurrency(jobConcurrency);
+        job.setStatus(BackfillJob.Status.PENDING);
+        job.setCompletedDates(new ArrayList<>());
+        job.setProcessedItems(0);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+
+        BackfillJob savedJob = backfillJobRepository.save(job);
+        log.info("Backfill job {} created for {} ~ {} (concurrency {}).", savedJob.getJobId(), startDate, endDate, jobConcurrency);
+
+        submit(savedJob.getJobId());
+        return savedJob;
+    }
+
+    public BackfillJob resumeJob(Long jobId) {
+        BackfillJob job = getJob(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Backfill job ID " + jobId + "를 찾을 수 없습니다."));
+        if (job.getStatus() == BackfillJob.Status.FAILED) {
+            job.setStatus(BackfillJob.Status.PENDING);
+            job.setUpdatedAt(OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
+            job = backfillJobRepository.save(job);
+        }
+        submit(jobId);
+        return job;
+    }
+
+    public Optional<BackfillJob> getJob(Long jobId) {
+        return backfillJobRepository.findById(jobId);
+    }
+
+    public List<BackfillJob> getJobs() {
+        return backfillJobRepository.findByOrderByCreatedAtDesc();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumeStaleJobs();
+    }
+
+    // Picks up jobs left PENDING, or RUNNING on an instance that stopped sending heartbeats.
+    @Scheduled(fixedDelayString = "${backfill.resume-interval-ms:300000}", initialDelayString = "${backfill.resume-interval-ms:300000}")
+    public void resumeStaleJobs() {
+        OffsetDateTime staleBefore = OffsetDateTime.now(ZoneId.of("Asia/Seoul")).minusMinutes(staleMinutes);
+        for (Long jobId : backfillJobRepository.findResumableJobIds(staleBefore)) {
+            if (!activeJobIds.contains(jobId)) {
+                log.info("Resuming backfill job {}.", jobId);
+                submit(jobId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${backfill.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        if (!activeJobIds.isEmpty()) {
+            backfillJobRepository.heartbeat(new ArrayList<>(activeJobIds), OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
+        }
+    }
+
+    private void submit(Long jobId) {
+        jobExecutor.submit(() -> runJob(jobId));
+    }
+
+    private void runJob(Long jobId) {
+        if (!activeJobIds.add(jobId)) {
+            return;
+        }
+        try {
+            OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
+            if (backfillJobRepository.claim(jobId, now, now.minusMinutes(staleMinutes)) == 0) {
+                log.info("Backfill job {} is finished or owned by another instance.", jobId);
+                return;
+            }
+
+            BackfillJob job = backfillJobRepository.findById(jobId).orElseThrow();
+            Set<String> completedDates = new HashSet<>(job.getCompletedDates());
+            List<LocalDate> pendingDates = job.getStartDate().datesUntil(job.getEndDate().plusDays(1))
+                    .filter(date -> !completedDates.contains(date.toString()))
+                    .toList();
+            log.info("Backfill job {} running. {} of {} days remaining.", jobId, pendingDates.size(), countDays(job));
+
+            List<String> errors = runDays(jobId, pendingDates, job.getConcurrency());
+
+            if (errors.isEmpty()) {
+                finish(jobId, BackfillJob.Status.COMPLETED, null);
+                log.info("Backfill job {} completed.", jobId);
+            } else {
+                finish(jobId, BackfillJob.Status.FAILED, String.join("\n", errors));
+                log.warn("Backfill job {} finished with {} failed days.", jobId, errors.size());
+            }
+        } catch (InterruptedException e) {
+            // Left RUNNING on purpose: another instance (or this one after restart) resumes it once the heartbeat goes stale.
+            Thread.currentThread().interrupt();
+            log.warn("Backfill job {} interrupted.", jobId);
+        } catch (Exception e) {
+            log.error("Backfill job {} failed.", jobId, e);
+            finish(jobId, BackfillJob.Status.FAILED, e.getMessage());
+        } finally {
+            activeJobIds.remove(jobId);
+        }
+    }
+
+    private List<String> runDays(Long jobId, List<LocalDate> dates, int concurrency) throws InterruptedException {
+        ExecutorService dayExecutor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("backfill-day-" + jobId + "-"));
+        List<String> errors = new ArrayList<>();
+        try {
+            Map<LocalDate, Future<?>> futures = new LinkedHashMap<>();
+            for (LocalDate date : dates) {
+                futures.put(date, dayExecutor.submit(() -> runDay(jobId, date)));
+            }
+            for (Map.Entry<LocalDate, Future<?>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (ExecutionException e) {
+                    log.error("Backfill job {} failed on {}.", jobId, entry.getKey(), e.getCause());
+                    errors.add(entry.getKey() + ": " + e.getCause().getMessage());
+                }
+            }
+        } finally {
+            dayExecutor.shutdownNow();
+        }
+        return errors;
+    }
+
+    private void runDay(Long jobId, LocalDate date) {
+        int processedItems = policyNewsService.processPolicyNewsByDate(date);
+        backfillJobRepository.checkpointDay(jobId, date.toString(), processedItems, OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
+        log.info("Backfill job {}: {} done ({} news items).", jobId, date, processedItems);
+    }
+
+    private void finish(Long jobId, BackfillJob.Status status, String lastError) {
+        backfillJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setLastError(lastError);
+            job.setUpdatedAt(OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
+            backfillJobRepository.save(job);
+        });
+    }
+
+    private int countDays(BackfillJob job) {
+        return (int) ChronoUnit.DAYS.between(job.getStartDate(), job.getEndDate()) + 1;
+    }
+
+    public BackfillJobResponse toBackfillJobResponse(BackfillJob job) {
+        return new BackfillJobResponse(
+                job.getJobId(),
+                job.getStartDate(),
+                job.getEndDate(),
+                job.getConcurrency(),
+                job.getStatus().name(),
+                countDays(job),
+                job.getCompletedDates() != null ? job.getCompletedDates().size() : 0,
+                job.getProcessedItems(),
+                job.getLastError(),
+                job.getCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
+                job.getUpdatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,233 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.util.TextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory LRU + TTL cache of chatbot answers.
+ * Questions are matched on their normalized text (case, width, whitespace and punctuation folded).
+ * Optionally (off by default), a near-identical question is matched by cosine similarity of character bigrams
+ * against the most recently cached questions. A similar question is only accepted when it names the same numbers
+ * and the same listed companies, since "2024년 …" and "2025년 …" differ in a single bigram but not in their answer.
+ */
+@Service
+@Slf4j
+public class ChatbotResponseCacheService {
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{P}\\p{S}]");
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private final StockReferenceService stockReferenceService;
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final boolean similarityEnabled;
+    private final double similarityThreshold;
+    private final int similarityMaxCandidates;
+
+    private final LinkedHashMap<String, Entry> entries;
+    // The most recently cached entries, newest last; the similarity scan is bounded by its size.
+    private final ArrayDeque<Entry> recentEntries = new ArrayDeque<>();
+
+    private final Counter exactHitCounter;
+    private final Counter similarHitCounter;
+    private final Counter missCounter;
+
+    public ChatbotResponseCacheService(
+            MeterRegistry meterRegistry,
+            StockReferenceService stockReferenceService,
+            @Value("${chatbot.cache.max-entries:1000}") int maxEntries,
+            @Value("${chatbot.cache.ttl-minutes:60}") long ttlMinutes,
+            @Value("${chatbot.cache.similarity-enabled:false}") boolean similarityEnabled,
+            @Value("${chatbot.cache.similarity-threshold:0.95}") double similarityThreshold,
+            @Value("${chatbot.cache.similarity-max-candidates:200}") int similarityMaxCandidates) {
+        this.stockReferenceService = stockReferenceService;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        this.similarityEnabled = similarityEnabled;
+        this.similarityThreshold = similarityThreshold;
+        this.similarityMaxCandidates = similarityMaxCandidates;
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ChatbotResponseCacheService.this.maxEntries;
+            }
+        };
+
+        this.exactHitCounter = Counter.builder("chatbot.cache.requests").tag("result", "hit_exact").register(meterRegistry);
+        this.similarHitCounter = Counter.builder("chatbot.cache.requests").tag("result", "hit_similar").register(meterRegistry);
+        this.missCounter = Counter.builder("chatbot.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("chatbot.cache.size", this, ChatbotResponseCacheService::size).register(meterRegistry);
+    }
+
+    public Optional<String> find(String question) {
+        String key = normalizeQuestion(question);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long now = System.nanoTime();
+        Entry[] candidates = null;
+        synchronized (this) {
+            Entry exact = entries.get(key);
+            if (exact != null) {
+                if (!exact.isExpired(now, ttlNanos)) {
+                    exactHitCounter.increment();
+                    return Optional.of(exact.answer);
+                }
+                entries.remove(key);
+            }
+            if (similarityEnabled) {
+                candidates = recentEntries.toArray(new Entry[0]);
+            }
+        }
+
+        // Scored outside the lock; a hit is re-checked against the map in case it was evicted meanwhile.
+        if (candidates != null) {
+            Entry similar = findMostSimilar(candidates, Bigrams.of(key), qualifiers(question, key), now);
+            if (similar != null) {
+                synchronized (this) {
+                    if (entries.get(similar.key) == similar) {
+                        similarHitCounter.increment();
+                        return Optional.of(similar.answer);
+                    }
+                }
+            }
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    public void put(String question, String answer) {
+        String key = normalizeQuestion(question);
+        if (key.isEmpty() || answer == null || answer.isEmpty()) {
+            return;
+        }
+
+        Entry entry = similarityEnabled
+                ? new Entry(key, answer, Bigrams.of(key), qualifiers(question, key), System.nanoTime())
+                : new Entry(key, answer, null, null, System.nanoTime());
+        synchronized (this) {
+            entries.put(key, entry);
+            if (similarityEnabled) {
+                recentEntries.addLast(entry);
+                if (recentEntries.size() > similarityMaxCandidates) {
+                    recentEntries.removeFirst();
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Entry findMostSimilar(Entry[] candidates, Bigrams query, String queryQualifiers, long now) {
+        Entry best = null;
+        double bestScore = similarityThreshold;
+
+        for (Entry candidate : candidates) {
+            if (candidate.isExpired(now, ttlNanos) || !queryQualifiers.equals(candidate.qualifiers)) {
+                continue;
+            }
+            double score = query.cosine(candidate.bigrams);
+            if (score >= bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    // The numbers and the listed companies named in the question; a similar question must name exactly the same.
+    private String qualifiers(String question, String key) {
+        StringJoiner qualifiers = new StringJoiner(",", "", "|");
+        NUMBER.matcher(key).results().forEach(number -> qualifiers.add(number.group()));
+        String stockCodes = String.join(",", stockReferenceService.getSnapshot().getStockNameMatcher()
+                .findMentionedStockCodes(question));
+        return qualifiers + stockCodes;
+    }
+
+    private static String normalizeQuestion(String question) {
+        String normalized = TextNormalizer.normalize(question);
+        return PUNCTUATION.matcher(normalized).replaceAll("").replace(" ", "");
+    }
+
+    private static class Entry {
+
+        private final String key;
+        private final String answer;
+        private final Bigrams bigrams;
+        private final String qualifiers;
+        private final long createdAtNanos;
+
+        private Entry(String key, String answer, Bigrams bigrams, String qualifiers, long createdAtNanos) {
+            this.key = key;
+            this.answer = answer;
+            this.bigrams = bigrams;
+            this.qualifiers = qualifiers;
+            this.createdAtNanos = createdAtNanos;
+        }
+
+        private boolean isExpired(long now, long ttlNanos) {
+            return now - createdAtNanos > ttlNanos;
+        }
+
+    }
+
+    private static class Bigrams {
+
+        private final Map<String, Integer> counts;
+        private final double norm;
+
+        private Bigrams(Map<String, Integer> counts) {
+            this.counts = counts;
+            double sumOfSquares = 0;
+            for (int count : counts.values()) {
+                sumOfSquares += (double) count * count;
+            }
+            this.norm = Math.sqrt(sumOfSquares);
+        }
+
+        private static Bigrams of(String text) {
+            Map<String, Integer> counts = new HashMap<>();
+            if (text.length() == 1) {
+                counts.put(text, 1);
+            }
+            for (int i = 0; i + 1 < text.length(); i++) {
+                counts.merge(text.substring(i, i + 2), 1, Integer::sum);
+            }
+            return new Bigrams(counts);
+        }
+
+        private double cosine(Bigrams other) {
+            if (other == null || norm == 0 || other.norm == 0) {
+                return 0;
+            }
+            Map<String, Integer> smaller = counts.size() <= other.counts.size() ? counts : other.counts;
+            Map<String, Integer> larger = smaller == counts ? other.counts : counts;
+
+            double dot = 0;
+            for (Map.Entry<String, Integer> entry : smaller.entrySet()) {
+                Integer count = larger.get(entry.getKey());
+                if (count != null) {
+                    dot += (double) entry.getValue() * count;
+                }
+            }
+            return dot / (norm * other.norm);
+        }
+
+    }
+
+}
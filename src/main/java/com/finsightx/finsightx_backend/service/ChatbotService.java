@@ -3,26 +3,66 @@ package com.finsightx.finsightx_backend.service;
 import com.finsightx.finsightx_backend.dto.llm.ClovaRequest;
 import com.finsightx.finsightx_backend.dto.llm.ClovaResponse;
 import com.finsightx.finsightx_backend.dto.llm.ClovaMessage;
+import com.finsightx.finsightx_backend.dto.llm.ClovaStreamEvent;
 import com.finsightx.finsightx_backend.dto.response.ChatbotResponse;
+import com.finsightx.finsightx_backend.prompt.PromptRegistry;
+import com.finsightx.finsightx_backend.util.AdmissionLimiter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Optional;
 
 @Service
 @Slf4j
 public class ChatbotService {
 
-    private final WebClient webClient;
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> CLOVA_EVENT_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    // Maximum gap between two upstream events before the stream is abandoned.
+    private static final Duration STREAM_IDLE_TIMEOUT = Duration.ofSeconds(30);
 
-    public ChatbotService(@Qualifier("llmChatbotWebClient") WebClient webClient) {
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final AdmissionLimiter admissionLimiter;
+    private final ChatbotResponseCacheService chatbotResponseCacheService;
+    private final PolicyKnowledgeService policyKnowledgeService;
+    private final PromptRegistry promptRegistry;
+    private final ResilienceService resilienceService;
+
+    public ChatbotService(
+            @Qualifier("llmChatbotWebClient") WebClient webClient,
+            ObjectMapper objectMapper,
+            ChatbotResponseCacheService chatbotResponseCacheService,
+            PolicyKnowledgeService policyKnowledgeService,
+            PromptRegistry promptRegistry,
+            ResilienceService resilienceService,
+            MeterRegistry meterRegistry,
+            @Value("${chatbot.max-in-flight:16}") int maxInFlight,
+            @Value("${chatbot.max-queued:64}") int maxQueued,
+            @Value("${chatbot.queue-timeout-ms:5000}") long queueTimeoutMs) {
         this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.chatbotResponseCacheService = chatbotResponseCacheService;
+        this.policyKnowledgeService = policyKnowledgeService;
+        this.promptRegistry = promptRegistry;
+        this.resilienceService = resilienceService;
+        this.admissionLimiter = new AdmissionLimiter("chatbot.admission", maxInFlight, maxQueued, Duration.ofMillis(queueTimeoutMs), meterRegistry);
     }
 
     @Value("${api.clova.chatbot.endpoint}")
@@ -31,54 +71,41 @@ public class ChatbotService {
     @Value("${api.clova.key}")
     private String clovaApiKey;
 
-    public ChatbotResponse sendMessage(String message) {
-        String systemPrompt = "- 당신은 대한민국 주식 시장에 상장된 기업들의 주가에 정책 변화가 미치는 영향을 전문적으로 분석하고 답변하는 AI 챗봇입니다.\n" +
-                "- 자신을 소개할 때는 \"안녕하세요! 정책 변동이 주가에 미치는 영향을 분석하는 AI 챗봇입니다.\"라고 소개합니다.\n" +
-                "- 사용자의 질문에 대해 다음 지침에 따라 상세하고 명확하게 답변해야 합니다.\n\n\n" +
-                "**역할 및 지침:**\n\n" +
-                "**1. 정책 영향 분석**: 제시된 정책 변화가 특정 산업(예: 철강, 반도체 등), 섹터, 또는 개별 기업에 미칠 수 있는 긍정적 또는 부정적 영향을 다각도로 분석합니다.\n\n" +
-                "**2. 주가 영향 분석**: 분석된 정책이 과거 사례 또는 경제 이론에 비추어 주가에 어떤 방향(상승/하락)으로, 어느 정도의 규모(정성적 표현)로 영향을 미칠지 분석합니다.\n\n" +
-                "**3. 시장 반응 분석**: 특정 정책 발표 이후 실제 시장의 반응(주가 변동, 거래량 변화 등)에 대한 정보를 제공합니다. " +
-                "이때, 가능한 경우 관련 뉴스 기사나 보고서 등의 출처를 명시하거나 참조할 수 있습니다.\n\n" +
-                "**4. 관련 종목 추천**: 정책 변화로 인해 직간접적으로 수혜를 받거나 부정적인 영향을 받을 수 있는 관련 종목을 제시합니다. " +
-                "이때, 종목 추천은 투자 권유가 아닌 정보 제공 목적임을 명확히 합니다.\n\n" +
-                "**5. 정보 제공의 정확성 및 제한**:\n\n" +
-                "- 제공하는 모든 정보는 공개적으로 접근 가능한 신뢰할 수 있는 데이터를 기반으로 합니다.\n\n" +
-                "**- \"투자 조언\"이나 \"매수/매도 추천\"으로 해석될 수 있는 직접적인 발언은 절대 하지 않습니다.** 모든 답변은 정보 제공 목적임을 명확히 합니다.\n\n" +
-                "- 미래의 주가 움직임을 100% 확신하는 듯한 발언은 피합니다. \"가능성이 높다\", \"영향을 줄 수 있다\" 등 확률적인 표현을 사용합니다.\n\n" +
-                "- 실시간 주가나 매우 최신 정보에 대한 접근이 제한될 수 있음을 사용자에게 인지시킬 수 있습니다.\n\n" +
-                "**6. 사용자 질문 이해 및 명확화**: 사용자의 질문이 모호할 경우, 명확한 분석을 위해 필요한 추가 정보를 요청할 수 있습니다.\n\n" +
-                "**7. 간결하고 명확한 응답**: 복잡한 내용을 이해하기 쉽게 풀어서 설명하고, 전문 용어 사용 시에는 간략한 설명을 덧붙입니다.\n\n" +
-                "**응답 형식:**\n\n" +
-                "- 각 질문에 대해 명확한 소제목 또는 구분자를 사용하여 답변을 구조화합니다.\n\n" +
-                "- 답변의 논리적 흐름을 구성합니다. (예: \"탄소배출권 확대 정책이 철강 업계에 미치는 영향\" -> \"정책 발표 이후 시장 반응\" -> \"관련 수혜/피해 종목\")";
-
-        ClovaRequest request = new ClovaRequest();
-        request.setMessages(new ArrayList<>());
-        request.getMessages().add(new ClovaMessage(ClovaMessage.ROLE.system, systemPrompt));
-        request.getMessages().add(new ClovaMessage(ClovaMessage.ROLE.user, message));
-        request.setTemperature(0.5);
-        request.setMaxTokens(500);
-        request.setRepeatPenalty(1.1);
-
-        ClovaResponse clovaResponse;
-
-        try {
-            clovaResponse = webClient.post()
-                    .uri(clovaApiEndpoint)
-                    .header("Authorization", "Bearer " + clovaApiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ClovaResponse.class)
-                    .block(Duration.ofMinutes(1));
-            log.debug("LLM response successful");
-        } catch (Exception e) {
-            log.error("Error during LLM response: {}", e.getMessage());
-            return null;
+    /**
+     * Non-blocking single-shot completion, retried on transient CLOVA failures. Runs under the chatbot admission limit;
+     * fails with {@link AdmissionLimiter.RejectedException} when the limiter is saturated.
+     * Cached answers are returned without calling the LLM unless {@code noCache} is set.
+     */
+    public Mono<ChatbotResponse> sendMessage(String message, boolean noCache) {
+        if (!noCache) {
+            Optional<String> cached = chatbotResponseCacheService.find(message);
+            if (cached.isPresent()) {
+                return Mono.just(convertToChatbotResponse(cached.get()));
+            }
         }
 
-        if (clovaResponse == null || clovaResponse.getResult() == null || clovaResponse.getResult().getMessage() == null) {
+        ClovaRequest request = buildRequest(message);
+
+        return admissionLimiter.execute(() -> resilienceService.decorate(ResilienceService.CLOVA, webClient.post()
+                        .uri(clovaApiEndpoint)
+                        .header("Authorization", "Bearer " + clovaApiKey)
+                        .header("Content-Type", "application/json")
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(ClovaResponse.class)
+                        .timeout(Duration.ofMinutes(1)))
+                .doOnNext(clovaResponse -> log.debug("LLM response successful"))
+                .onErrorResume(e -> {
+                    log.error("Error during LLM response: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .mapNotNull(this::extractContent)
+                .doOnNext(content -> chatbotResponseCacheService.put(message, content))
+                .map(this::convertToChatbotResponse));
+    }
+
+    private String extractContent(ClovaResponse clovaResponse) {
+        if (clovaResponse.getResult() == null || clovaResponse.getResult().getMessage() == null) {
             log.error("LLM response is not valid.");
             return null;
         }
@@ -90,8 +117,86 @@ public class ChatbotService {
         }
 
         log.info("Parsing LLM response string: {}", llmContentString);
+        return llmContentString;
+    }
+
+    /**
+     * Relays the CLOVA streaming completion as Server-Sent Events without blocking a request thread.
+     * Emits {@code token} events with each text fragment, a final {@code result} event with the full message,
+     * and an {@code error} event if the upstream call fails or the chatbot admission limit is saturated.
+     */
+    public Flux<ServerSentEvent<String>> streamMessage(String message, boolean noCache) {
+        if (!noCache) {
+            Optional<String> cached = chatbotResponseCacheService.find(message);
+            if (cached.isPresent()) {
+                return Flux.just(ServerSentEvent.builder(cached.get()).event("result").build());
+            }
+        }
 
-        return convertToChatbotResponse(llmContentString);
+        return admissionLimiter.executeMany(() -> relayStream(message))
+                .doOnNext(event -> {
+                    if ("result".equals(event.event())) {
+                        chatbotResponseCacheService.put(message, event.data());
+                    }
+                })
+                .onErrorResume(AdmissionLimiter.RejectedException.class, e -> {
+                    log.warn("Chatbot stream rejected: {}", e.getMessage());
+                    return Flux.just(ServerSentEvent.builder("요청이 많아 잠시 후 다시 시도해 주세요.").event("error").build());
+                });
+    }
+
+    private Flux<ServerSentEvent<String>> relayStream(String message) {
+        return resilienceService.decorateStream(ResilienceService.CLOVA, webClient.post()
+                        .uri(clovaApiEndpoint)
+                        .header("Authorization", "Bearer " + clovaApiKey)
+                        .header("Content-Type", "application/json")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .bodyValue(buildRequest(message))
+                        .retrieve()
+                        .bodyToFlux(CLOVA_EVENT_TYPE)
+                        .timeout(STREAM_IDLE_TIMEOUT))
+                .takeUntil(event -> "result".equals(event.event()))
+                .mapNotNull(this::toChatbotStreamEvent)
+                .onErrorResume(e -> {
+                    log.error("Error during LLM streaming response: {}", e.getMessage());
+                    return Flux.just(ServerSentEvent.builder("LLM 응답 생성 중 오류가 발생했습니다.").event("error").build());
+                });
+    }
+
+    private ServerSentEvent<String> toChatbotStreamEvent(ServerSentEvent<String> clovaEvent) {
+        String eventType = clovaEvent.event();
+        if (clovaEvent.data() == null || (!"token".equals(eventType) && !"result".equals(eventType) && !"error".equals(eventType))) {
+            return null;
+        }
+
+        if ("error".equals(eventType)) {
+            log.error("LLM streaming error event: {}", clovaEvent.data());
+            return ServerSentEvent.builder("LLM 응답 생성 중 오류가 발생했습니다.").event("error").build();
+        }
+
+        try {
+            ClovaStreamEvent streamEvent = objectMapper.readValue(clovaEvent.data(), ClovaStreamEvent.class);
+            if (streamEvent.getMessage() == null || streamEvent.getMessage().getContent() == null) {
+                return null;
+            }
+            return ServerSentEvent.builder(streamEvent.getMessage().getContent()).event(eventType).build();
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping unparsable LLM stream event: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private ClovaRequest buildRequest(String message) {
+        ClovaRequest request = new ClovaRequest();
+        // Grounds the answer in stored policy analyses relevant to the question, when there are any.
+        ArrayList<ClovaMessage> messages = new ArrayList<>(2);
+        messages.add(promptRegistry.chatbotSystemMessage(policyKnowledgeService.buildContext(message)));
+        messages.add(new ClovaMessage(ClovaMessage.ROLE.user, message));
+        request.setMessages(messages);
+        request.setTemperature(0.5);
+        request.setMaxTokens(500);
+        request.setRepeatPenalty(1.1);
+        return request;
     }
 
     public ChatbotResponse convertToChatbotResponse(String message) {
@@ -0,0 +1,126 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.domain.DailyReport;
+import com.finsightx.finsightx_backend.domain.DailyReportSearchDocument;
+import com.finsightx.finsightx_backend.domain.PolicyInfo;
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
+import com.finsightx.finsightx_backend.repository.DailyReportRepository;
+import com.finsightx.finsightx_backend.repository.DailyReportSearchDocumentRepository;
+import com.finsightx.finsightx_backend.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keyword search over daily reports.
+ * Each report has one denormalized, normalized search document (title, policy names, stages, summaries,
+ * content, stock and industry names) written together with the report, along with its character bigrams.
+ * A query is narrowed to the documents containing all of its bigrams through a GIN index on them, then matched exactly.
+ * A single-character keyword has no bigrams and falls back to scanning every document.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyReportSearchService {
+
+    private static final int REINDEX_BATCH_SIZE = 100;
+
+    private final DailyReportSearchDocumentRepository searchDocumentRepository;
+    private final DailyReportRepository dailyReportRepository;
+    private final PolicyInfoService policyInfoService;
+    private final StockReferenceService stockReferenceService;
+
+    public List<DailyReport> search(String keyword) {
+        String normalizedKeyword = TextNormalizer.normalize(keyword);
+        if (normalizedKeyword.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return dailyReportRepository.searchByDocument(
+                String.join(" ", TextNormalizer.bigrams(normalizedKeyword)),
+                TextNormalizer.escapeLike(normalizedKeyword));
+    }
+
+    public void index(DailyReport report, Collection<PolicyInfo> policies) {
+        String document = buildDocument(report, policies, stockReferenceService.getSnapshot());
+        searchDocumentRepository.save(new DailyReportSearchDocument(
+                report.getReportId(),
+                document,
+                new ArrayList<>(TextNormalizer.bigrams(document)),
+                OffsetDateTime.now(ZoneId.of("Asia/Seoul"))
+        ));
+    }
+
+    // Reports written before the search document existed are indexed once at startup.
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexMissingDocuments() {
+        List<Long> reportIds = searchDocumentRepository.findReportIdsWithoutDocument();
+        if (reportIds.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < reportIds.size(); from += REINDEX_BATCH_SIZE) {
+            List<DailyReport> reports = dailyReportRepository.findAllById(
+                    reportIds.subList(from, Math.min(from + REINDEX_BATCH_SIZE, reportIds.size())));
+
+            List<Long> policyIds = reports.stream()
+                    .flatMap(report -> report.getPolicies() != null ? report.getPolicies().stream() : Stream.empty())
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            Map<Long, PolicyInfo> policyInfoMap = policyInfoService.getPolicyInfoByIds(policyIds).stream()
+                    .collect(Collectors.toMap(PolicyInfo::getPolicyId, policy -> policy));
+
+            for (DailyReport report : reports) {
+                List<PolicyInfo> reportPolicies = report.getPolicies() == null ? Collections.emptyList() : report.getPolicies().stream()
+                        .map(policyInfoMap::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList());
+                index(report, reportPolicies);
+            }
+        }
+
+        log.info("Indexed {} daily reports for search.", reportIds.size());
+    }
+
+    private String buildDocument(DailyReport report, Collection<PolicyInfo> policies, StockReferenceSnapshot stockSnapshot) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.add(report.getTitle());
+
+        for (PolicyInfo policyInfo : policies) {
+            terms.add(policyInfo.getPolicyName());
+            terms.add(policyInfo.getStage());
+            terms.add(policyInfo.getSummary());
+            if (policyInfo.getContent() != null) terms.addAll(policyInfo.getContent());
+
+            for (String industryCode : concat(policyInfo.getPositiveIndustries(), policyInfo.getNegativeIndustries())) {
+                terms.add(stockSnapshot.getIndustryName(industryCode));
+            }
+            for (String stockCode : concat(policyInfo.getPositiveStocks(), policyInfo.getNegativeStocks())) {
+                terms.add(stockSnapshot.getStockName(stockCode));
+            }
+        }
+
+        // Terms are joined with a newline so a match never spans two unrelated fields.
+        return terms.stream()
+                .filter(Objects::nonNull)
+                .map(TextNormalizer::normalize)
+                .filter(term -> !term.isEmpty())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> result = new ArrayList<>();
+        if (first != null) result.addAll(first);
+        if (second != null) result.addAll(second);
+        return result;
+    }
+
+}
@@ -2,15 +2,21 @@ package com.finsightx.finsightx_backend.service;
 
 import com.finsightx.finsightx_backend.domain.DailyReport;
 import com.finsightx.finsightx_backend.domain.PolicyInfo;
-import com.finsightx.finsightx_backend.domain.PortfolioItem;
-import com.finsightx.finsightx_backend.domain.Stock;
+import com.finsightx.finsightx_backend.dto.response.CursorPageResponse;
 import com.finsightx.finsightx_backend.dto.response.DailyReportListItemResponse;
 import com.finsightx.finsightx_backend.dto.response.DailyReportResponse;
 import com.finsightx.finsightx_backend.dto.response.PolicyInfoResponse;
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
 import com.finsightx.finsightx_backend.repository.DailyReportRepository;
+import com.finsightx.finsightx_backend.util.PageCursor;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -30,8 +36,16 @@ public class DailyReportService {
     private final DailyReportRepository dailyReportRepository;
 
     private final PolicyInfoService policyInfoService;
-    private final StockService stockService;
-    private final UserService userService;
+    private final StockReferenceService stockReferenceService;
+    private final DailyReportSearchService dailyReportSearchService;
+    private final UserReportFeedService userReportFeedService;
+    private final IngestionMetrics ingestionMetrics;
+
+    @Value("${pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:100}")
+    private int maxPageSize;
 
     public Optional<DailyReport> getDailyReportById(Long reportId) {
         return dailyReportRepository.findById(reportId);
@@ -43,6 +57,15 @@ public class DailyReportService {
 
     @Transactional
     public void createDailyReport(LocalDate date) {
+        Timer.Sample sample = Timer.start();
+        try {
+            createDailyReportForDate(date);
+        } finally {
+            sample.stop(ingestionMetrics.stage(IngestionMetrics.Stage.REPORT_CREATION));
+        }
+    }
+
+    private void createDailyReportForDate(LocalDate date) {
         log.info("Start creating daily report for {}.", date);
 
         OffsetDateTime todayStart = date.atStartOfDay().atOffset(ZoneOffset.ofHours(9));
@@ -59,20 +82,25 @@ public class DailyReportService {
                 .map(PolicyInfo::getPolicyId)
                 .collect(Collectors.toList());
 
-        String title = date.atTime(21, 0, 0).atOffset(ZoneOffset.ofHours(9)).format(DateTimeFormatter.ofPattern("M월 d일 일일 정책 리포트"));
+        OffsetDateTime reportCreatedAt = date.atTime(21, 0, 0).atOffset(ZoneOffset.ofHours(9));
+        String title = reportCreatedAt.format(DateTimeFormatter.ofPattern("M월 d일 일일 정책 리포트"));
 
-        DailyReport report = new DailyReport();
-        report.setCreatedAt(date.atTime(21, 0, 0).atOffset(ZoneOffset.ofHours(9)));
+        // Re-running a date (e.g. from a backfill) refreshes that day's report instead of adding a duplicate.
+        DailyReport report = dailyReportRepository.findFirstByCreatedAt(reportCreatedAt).orElseGet(DailyReport::new);
+        report.setCreatedAt(reportCreatedAt);
         report.setTitle(title);
         report.setPolicies(policyIds);
+        applySummary(report, todayPolicies, stockReferenceService.getSnapshot());
 
-        dailyReportRepository.save(report);
+        DailyReport savedReport = dailyReportRepository.save(report);
+        dailyReportSearchService.index(savedReport, todayPolicies);
+        userReportFeedService.onReportSaved(savedReport);
 
         log.info("Today's daily report has been successfully generated and saved. Title: '{}', Number of policies included: {}", title, policyIds.size());
     }
 
     public List<DailyReport> searchDailyReportsByKeyword(String keyword) {
-        return dailyReportRepository.searchDailyReports(keyword);
+        return dailyReportSearchService.search(keyword);
     }
 
     public List<DailyReportListItemResponse> getAllDailyReportsAsDto() {
@@ -81,135 +109,69 @@ public class DailyReportService {
         return mapReportsToDailyReportListItemResponses(reports);
     }
 
-    public List<DailyReportListItemResponse> getPersonalizedDailyReportsAsDto(Long userId) {
-        List<DailyReport> allReports = getAllDailyReports();
+    public CursorPageResponse<DailyReportListItemResponse> getDailyReportsPageAsDto(String cursor, Integer size) {
+        int pageSize = PageCursor.resolvePageSize(size, defaultPageSize, maxPageSize);
+        Limit limit = Limit.of(pageSize + 1);
 
-        if (allReports.isEmpty()) {
-            return Collections.emptyList();
+        List<DailyReport> reports;
+        if (cursor == null || cursor.isBlank()) {
+            reports = dailyReportRepository.findByOrderByCreatedAtDescReportIdDesc(limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            reports = dailyReportRepository.findPageBefore(pageCursor.createdAt(), pageCursor.id(), limit);
         }
 
-        Set<String> userPortfolioStockCodes;
-        Set<String> userPortfolioIndustryCodes;
-        Map<String, Stock> userStockMap;
+        boolean hasNext = reports.size() > pageSize;
+        List<DailyReport> page = hasNext ? reports.subList(0, pageSize) : reports;
 
-        try {
-            List<PortfolioItem> userPortfolioItems = userService.getUserPortfolio(userId);
-
-            userPortfolioStockCodes = userPortfolioItems.stream()
-                    .map(PortfolioItem::getStockCode)
-                    .collect(Collectors.toSet());
-
-
-            userStockMap = stockService.getStocksByStockCodeIn(new ArrayList<>(userPortfolioStockCodes)).stream()
-                    .collect(Collectors.toMap(Stock::getStockCode, stock -> stock));
-
-            userPortfolioIndustryCodes = userStockMap.values().stream()
-                    .map(Stock::getIndustryCode)
-                    .collect(Collectors.toSet());
-
-        } catch (IllegalArgumentException e) {
-            // "User portfolio not found for userId: {userId}"
-            userPortfolioStockCodes = Collections.emptySet();
-            userPortfolioIndustryCodes = Collections.emptySet();
+        String nextCursor = null;
+        if (hasNext) {
+            DailyReport last = page.get(page.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getReportId()).encode();
         }
 
-        final Set<String> finalUserPortfolioStockCodes = userPortfolioStockCodes;
-        final Set<String> finalUserPortfolioIndustryCodes = userPortfolioIndustryCodes;
+        return new CursorPageResponse<>(mapReportsToDailyReportListItemResponses(page), nextCursor, hasNext);
+    }
 
-        List<Long> allPolicyIds = allReports.stream()
-                .flatMap(report -> report.getPolicies() != null ? report.getPolicies().stream() : Stream.empty())
-                .distinct()
+    public List<DailyReportListItemResponse> getPersonalizedDailyReportsAsDto(Long userId) {
+        return userReportFeedService.getFeed(userId).stream()
+                .map(entry -> new DailyReportListItemResponse(
+                        entry.getReportId(),
+                        entry.getTitle(),
+                        entry.getReportCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
+                        entry.getIndustryNames(),
+                        entry.getStockNames()
+                ))
                 .collect(Collectors.toList());
+    }
 
-        Map<Long, PolicyInfo> policyInfoMap = policyInfoService.getPolicyInfoByIds(allPolicyIds).stream()
-                .collect(Collectors.toMap(PolicyInfo::getPolicyId, policy -> policy));
-
-        Map<String, String> allIndustryNamesMap = new HashMap<>();
-        Map<String, String> allStockNamesMap = new HashMap<>();
-
-        Set<String> distinctAllReportIndustryCodes = new HashSet<>();
-        Set<String> distinctAllReportStockCodes = new HashSet<>();
-
-        for (PolicyInfo policy : policyInfoMap.values()) {
-            if (policy.getPositiveIndustries() != null) distinctAllReportIndustryCodes.addAll(policy.getPositiveIndustries());
-            if (policy.getNegativeIndustries() != null) distinctAllReportIndustryCodes.addAll(policy.getNegativeIndustries());
-            if (policy.getPositiveStocks() != null) distinctAllReportStockCodes.addAll(policy.getPositiveStocks());
-            if (policy.getNegativeStocks() != null) distinctAllReportStockCodes.addAll(policy.getNegativeStocks());
-        }
+    // Summaries and personalized feeds are derived data; fill in whatever is missing for reports written before they existed.
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeDerivedReportData() {
+        List<DailyReport> reports = getAllDailyReports();
+        ensureSummaries(reports);
+        userReportFeedService.rebuildAllIfEmpty(reports);
+    }
 
-        if (!distinctAllReportIndustryCodes.isEmpty()) {
-            stockService.getStocksByIndustryCodeIn(new ArrayList<>(distinctAllReportIndustryCodes))
-                    .forEach(stock -> allIndustryNamesMap.putIfAbsent(stock.getIndustryCode(), stock.getIndustryName()));
+    // Industry names are materialized from the stock reference, so they are re-derived from the stored codes when it changes.
+    @EventListener
+    public void onStockReferenceReloaded(StockReferenceService.StockReferenceReloadedEvent event) {
+        List<DailyReport> changed = new ArrayList<>();
+        for (DailyReport report : getAllDailyReports()) {
+            if (report.getIndustryCodes() == null) {
+                continue;
+            }
+            List<String> industryNames = toIndustryNames(report.getIndustryCodes(), event.snapshot());
+            if (!industryNames.equals(report.getIndustryNames())) {
+                report.setIndustryNames(industryNames);
+                changed.add(report);
+            }
         }
 
-        if (!distinctAllReportStockCodes.isEmpty()) {
-            stockService.getStocksByStockCodeIn(new ArrayList<>(distinctAllReportStockCodes))
-                    .forEach(stock -> allStockNamesMap.putIfAbsent(stock.getStockCode(), stock.getStockName()));
+        if (!changed.isEmpty()) {
+            dailyReportRepository.saveAll(changed);
+            log.info("Refreshed industry names of {} daily reports.", changed.size());
         }
-
-
-        return allReports.stream()
-                .filter(report -> {
-                    Set<String> reportRelatedIndustryCodes = new HashSet<>();
-                    Set<String> reportRelatedStockCodes = new HashSet<>();
-
-                    if (report.getPolicies() != null) {
-                        for (Long policyId : report.getPolicies()) {
-                            PolicyInfo policyInfo = policyInfoMap.get(policyId);
-                            if (policyInfo != null) {
-                                if (policyInfo.getPositiveIndustries() != null) reportRelatedIndustryCodes.addAll(policyInfo.getPositiveIndustries());
-                                if (policyInfo.getNegativeIndustries() != null) reportRelatedIndustryCodes.addAll(policyInfo.getNegativeIndustries());
-                                if (policyInfo.getPositiveStocks() != null) reportRelatedStockCodes.addAll(policyInfo.getPositiveStocks());
-                                if (policyInfo.getNegativeStocks() != null) reportRelatedStockCodes.addAll(policyInfo.getNegativeStocks());
-                            }
-                        }
-                    }
-
-                    boolean industryOverlap = reportRelatedIndustryCodes.stream()
-                            .anyMatch(finalUserPortfolioIndustryCodes::contains);
-
-                    boolean stockOverlap = reportRelatedStockCodes.stream()
-                            .anyMatch(finalUserPortfolioStockCodes::contains);
-
-                    return industryOverlap || stockOverlap;
-                })
-                .map(report -> {
-                    Set<String> relatedIndustryNames = new HashSet<>();
-                    Set<String> userStockNames = new HashSet<>();
-
-                    if (report.getPolicies() != null) {
-                        for (Long policyId : report.getPolicies()) {
-                            PolicyInfo policyInfo = policyInfoMap.get(policyId);
-                            if (policyInfo != null) {
-                                Set<String> currentPolicyIndustryCodes = new HashSet<>();
-                                if (policyInfo.getPositiveIndustries() != null) currentPolicyIndustryCodes.addAll(policyInfo.getPositiveIndustries());
-                                if (policyInfo.getNegativeIndustries() != null) currentPolicyIndustryCodes.addAll(policyInfo.getNegativeIndustries());
-                                for (String industryCode : currentPolicyIndustryCodes) {
-                                    Optional.ofNullable(allIndustryNamesMap.get(industryCode))
-                                            .ifPresent(relatedIndustryNames::add);
-                                }
-
-                                Set<String> currentPolicyStockCodes = new HashSet<>();
-                                if (policyInfo.getPositiveStocks() != null) currentPolicyStockCodes.addAll(policyInfo.getPositiveStocks());
-                                if (policyInfo.getNegativeStocks() != null) currentPolicyStockCodes.addAll(policyInfo.getNegativeStocks());
-                                for (String stockCode : currentPolicyStockCodes) {
-                                    if (finalUserPortfolioStockCodes.contains(stockCode)) {
-                                        Optional.ofNullable(allStockNamesMap.get(stockCode))
-                                                .ifPresent(userStockNames::add);
-                                    }
-                                }
-                            }
-                        }
-                    }
-                    return new DailyReportListItemResponse(
-                            report.getReportId(),
-                            report.getTitle(),
-                            report.getCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
-                            new ArrayList<>(relatedIndustryNames),
-                            new ArrayList<>(userStockNames)
-                    );
-                })
-                .collect(Collectors.toList());
     }
 
     public Optional<DailyReportResponse> getDailyReportAsDto(Long reportId) {
@@ -228,51 +190,74 @@ public class DailyReportService {
             return Collections.emptyList();
         }
 
-        List<Long> allPolicyIds = reports.stream()
+        return reports.stream()
+                .map(report -> toDailyReportListItemResponse(report, new ArrayList<>()))
+                .collect(Collectors.toList());
+    }
+
+    private DailyReportListItemResponse toDailyReportListItemResponse(DailyReport report, List<String> stockNames) {
+        return new DailyReportListItemResponse(
+                report.getReportId(),
+                report.getTitle(),
+                report.getCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
+                report.getIndustryNames() != null ? new ArrayList<>(report.getIndustryNames()) : new ArrayList<>(),
+                stockNames
+        );
+    }
+
+    // Reports written before the summary columns existed are summarized once at startup, so listings never touch policy_info.
+    private void ensureSummaries(List<DailyReport> reports) {
+        List<DailyReport> missing = reports.stream()
+                .filter(report -> report.getIndustryCodes() == null || report.getIndustryNames() == null || report.getStockCodes() == null)
+                .collect(Collectors.toList());
+
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        List<Long> policyIds = missing.stream()
                 .flatMap(report -> report.getPolicies() != null ? report.getPolicies().stream() : Stream.empty())
                 .distinct()
                 .collect(Collectors.toList());
 
-        Map<Long, PolicyInfo> policyInfoMap = policyInfoService.getPolicyInfoByIds(allPolicyIds).stream()
+        Map<Long, PolicyInfo> policyInfoMap = policyInfoService.getPolicyInfoByIds(policyIds).stream()
                 .collect(Collectors.toMap(PolicyInfo::getPolicyId, policy -> policy));
 
-        List<String> allIndustryCodes = policyInfoMap.values().stream()
-                .flatMap(policy -> Stream.concat(
-                        policy.getPositiveIndustries() != null ? policy.getPositiveIndustries().stream() : Stream.empty(),
-                        policy.getNegativeIndustries() != null ? policy.getNegativeIndustries().stream() : Stream.empty()
-                ))
-                .distinct()
-                .collect(Collectors.toList());
+        StockReferenceSnapshot stockSnapshot = stockReferenceService.getSnapshot();
 
-        Map<String, String> industryNamesMap = stockService.getStocksByIndustryCodeIn(allIndustryCodes).stream()
-                .collect(Collectors.toMap(Stock::getIndustryCode, Stock::getIndustryName, (existing, replacement) -> existing));
+        for (DailyReport report : missing) {
+            List<PolicyInfo> reportPolicies = report.getPolicies() == null ? Collections.emptyList() : report.getPolicies().stream()
+                    .map(policyInfoMap::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            applySummary(report, reportPolicies, stockSnapshot);
+        }
 
-        return reports.stream()
-                .map(report -> {
-                    Set<String> relatedIndustries = new HashSet<>();
-                    if (report.getPolicies() != null) {
-                        for (Long policyId : report.getPolicies()) {
-                            PolicyInfo policyInfo = policyInfoMap.get(policyId);
-                            if (policyInfo != null) {
-                                List<String> currentPolicyIndustryCodes = new ArrayList<>();
-                                if (policyInfo.getPositiveIndustries() != null) currentPolicyIndustryCodes.addAll(policyInfo.getPositiveIndustries());
-                                if (policyInfo.getNegativeIndustries() != null) currentPolicyIndustryCodes.addAll(policyInfo.getNegativeIndustries());
-
-                                for (String industryCode : currentPolicyIndustryCodes) {
-                                    Optional.ofNullable(industryNamesMap.get(industryCode))
-                                            .ifPresent(relatedIndustries::add);
-                                }
-                            }
-                        }
-                    }
-                    return new DailyReportListItemResponse(
-                            report.getReportId(),
-                            report.getTitle(),
-                            report.getCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
-                            new ArrayList<>(relatedIndustries),
-                            new ArrayList<>()
-                    );
-                })
+        dailyReportRepository.saveAll(missing);
+        log.info("Materialized summaries for {} daily reports.", missing.size());
+    }
+
+    private void applySummary(DailyReport report, Collection<PolicyInfo> policies, StockReferenceSnapshot stockSnapshot) {
+        Set<String> industryCodes = new LinkedHashSet<>();
+        Set<String> stockCodes = new LinkedHashSet<>();
+
+        for (PolicyInfo policyInfo : policies) {
+            if (policyInfo.getPositiveIndustries() != null) industryCodes.addAll(policyInfo.getPositiveIndustries());
+            if (policyInfo.getNegativeIndustries() != null) industryCodes.addAll(policyInfo.getNegativeIndustries());
+            if (policyInfo.getPositiveStocks() != null) stockCodes.addAll(policyInfo.getPositiveStocks());
+            if (policyInfo.getNegativeStocks() != null) stockCodes.addAll(policyInfo.getNegativeStocks());
+        }
+
+        report.setIndustryCodes(new ArrayList<>(industryCodes));
+        report.setIndustryNames(toIndustryNames(industryCodes, stockSnapshot));
+        report.setStockCodes(new ArrayList<>(stockCodes));
+    }
+
+    private List<String> toIndustryNames(Collection<String> industryCodes, StockReferenceSnapshot stockSnapshot) {
+        return industryCodes.stream()
+                .map(stockSnapshot::getIndustryName)
+                .filter(Objects::nonNull)
+                .distinct()
                 .collect(Collectors.toList());
     }
 
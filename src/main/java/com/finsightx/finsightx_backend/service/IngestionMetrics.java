@@ -0,0 +1,97 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Meters of the policy news ingestion pipeline:
+ * per-stage latency, news items by outcome, LLM token usage and batching, and policy signals generated per policy.
+ */
+@Component
+public class IngestionMetrics {
+
+    public enum Stage {
+        FETCH("fetch"),
+        PARSE("parse"),
+        LLM_CALL("llm_call"),
+        LLM_PARSE("llm_parse"),
+        PERSIST("persist"),
+        SIGNAL_FANOUT("signal_fanout"),
+        REPORT_CREATION("report_creation");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final DistributionSummary signalsPerPolicy;
+    private final DistributionSummary batchSize;
+    private final Counter batchFallbacks;
+
+    public IngestionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("ingestion.stage.duration")
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.signalsPerPolicy = DistributionSummary.builder("ingestion.policy.signals")
+                .description("Policy signals generated per analyzed policy")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("llm.batch.articles")
+                .description("Articles sent per batched LLM analysis request")
+                .register(meterRegistry);
+        this.batchFallbacks = Counter.builder("llm.batch.fallbacks")
+                .description("Articles left unanswered by a batched request and analyzed one by one")
+                .register(meterRegistry);
+    }
+
+    public Timer stage(Stage stage) {
+        return stageTimers.get(stage);
+    }
+
+    /**
+     * Counts news items per result: {@code filtered} (rejected while parsing), {@code skipped} (already processed
+     * or claimed elsewhere), {@code prefiltered} (judged not policy by the pre-filter), {@code analyzed} (handed to the LLM),
+     * then {@code policy}, {@code not_policy} or {@code failed}.
+     */
+    public void countNewsItems(String result, long count) {
+        if (count > 0) {
+            Counter.builder("ingestion.news.items").tag("result", result).register(meterRegistry).increment(count);
+        }
+    }
+
+    public void recordTokenUsage(String model, GenerateContentResponseUsageMetadata usage) {
+        usage.promptTokenCount().ifPresent(count -> countTokens(model, "prompt", count));
+        usage.candidatesTokenCount().ifPresent(count -> countTokens(model, "output", count));
+        usage.cachedContentTokenCount().ifPresent(count -> countTokens(model, "cached", count));
+        usage.totalTokenCount().ifPresent(count -> countTokens(model, "total", count));
+    }
+
+    public void recordBatch(int articleCount, int fallbackCount) {
+        batchSize.record(articleCount);
+        batchFallbacks.increment(fallbackCount);
+    }
+
+    public void recordSignalsPerPolicy(int count) {
+        signalsPerPolicy.record(count);
+    }
+
+    private void countTokens(String model, String type, int count) {
+        Counter.builder("llm.tokens").tag("model", model).tag("type", type).register(meterRegistry).increment(count);
+    }
+
+}
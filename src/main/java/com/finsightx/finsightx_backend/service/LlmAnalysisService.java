@@ -1,24 +1,39 @@
 package com.finsightx.finsightx_backend.service;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.finsightx.finsightx_backend.domain.PolicyInfo;
 import com.finsightx.finsightx_backend.dto.llm.PolicyInfoFromLlm;
 import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
+import com.finsightx.finsightx_backend.index.StockNameMatcher;
+import com.finsightx.finsightx_backend.prompt.PromptRegistry;
+import com.finsightx.finsightx_backend.util.IndustryCodeScrubber;
+import com.finsightx.finsightx_backend.util.TokenBucketRateLimiter;
+import com.finsightx.finsightx_backend.util.TokenEstimator;
+import com.finsightx.finsightx_backend.util.TransientFailures;
 import com.google.genai.types.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import com.google.genai.Client;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Slf4j
@@ -28,153 +43,450 @@ public class LlmAnalysisService {
 
     private final Client client;
 
+    private final PolicyAnalysisCacheService policyAnalysisCacheService;
+
+    private final ResilienceService resilienceService;
+
+    private final IngestionMetrics ingestionMetrics;
+
+    private final StockReferenceService stockReferenceService;
+
+    private final PromptRegistry promptRegistry;
+
+    private final Timer geminiRequestTimer;
+
+    // Every Gemini request attempt takes a permit, including retries and context cache maintenance.
+    private final TokenBucketRateLimiter rateLimiter;
+
+    private volatile IndustryCodeScrubber industryCodeScrubber = IndustryCodeScrubber.of(PromptRegistry.INDUSTRY_CODES);
+
+    // Context caches of the static system instructions, by prompt name, and the creations in progress.
+    private final Map<String, ContextCache> contextCaches = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ContextCache>> contextCacheCreations = new ConcurrentHashMap<>();
+
     public LlmAnalysisService(
             ObjectMapper objectMapper,
-            @Value("${api.gemini.key}") String geminiApiKey) {
+            PolicyAnalysisCacheService policyAnalysisCacheService,
+            ResilienceService resilienceService,
+            IngestionMetrics ingestionMetrics,
+            StockReferenceService stockReferenceService,
+            PromptRegistry promptRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${api.gemini.key}") String geminiApiKey,
+            @Value("${http.client.gemini.timeout-ms:120000}") int geminiTimeoutMs,
+            @Value("${api.gemini.requests-per-minute:10}") int requestsPerMinute,
+            @Value("${api.gemini.burst:1}") int burst) {
         this.objectMapper = objectMapper;
-        client = Client.builder().apiKey(geminiApiKey).build();
+        this.policyAnalysisCacheService = policyAnalysisCacheService;
+        this.resilienceService = resilienceService;
+        this.ingestionMetrics = ingestionMetrics;
+        this.stockReferenceService = stockReferenceService;
+        this.promptRegistry = promptRegistry;
+        client = Client.builder()
+                .apiKey(geminiApiKey)
+                .httpOptions(HttpOptions.builder().timeout(geminiTimeoutMs).build())
+                .build();
+        // The Gemini SDK manages its own HTTP client, so latency is measured around the call.
+        geminiRequestTimer = Timer.builder("http.client.gemini.requests")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rateLimiter = TokenBucketRateLimiter.perMinute(requestsPerMinute, burst);
     }
 
+    private static final Duration CONTEXT_CACHE_RETRY_DELAY = Duration.ofMinutes(10);
+
     private static final List<String> VALID_POLICY_STAGES = Arrays.asList(
             "기획", "제안", "심의/검토", "확정/공포", "시행"
     );
 
-    private static final List<String> ALL_INDUSTRY_CODES = ImmutableList.of(
-            "1010", "1510", "2010", "2020", "2030", "2510", "2520", "2530", "2550",
-            "2560", "3010", "3020", "3030", "3510", "3520", "4010", "4020", "4030",
-            "4040", "4050", "4510", "4520", "4530", "4535", "4540", "5010", "5020",
-            "5510"
-    );
-
-    private static final Map<String, Pattern> INDUSTRY_CODE_PATTERNS =
-            ALL_INDUSTRY_CODES.stream()
-                    .collect(Collectors.toMap(
-                            Function.identity(),
-                            code -> Pattern.compile("\\(" + Pattern.quote(code) + "\\)")
-                    ));
-
     @Value("${api.gemini.model}")
     private String geminiApiModel;
 
-    public PolicyInfo analyzePolicyNewsWithLlm(PolicyNewsItem newsItem, Map<String, String> stockNameToCodeMap) {
-        String systemPrompt = "- 당신은 정책 뉴스를 분석하여 주식 시장에 미치는 영향을 판단하고 예측하는 전문 AI 애널리스트입니다.\n\n" +
-                "- 사용자로부터 정책 뉴스 기사를 입력받으면, 다음 지침에 따라 분석을 수행하고 지정된 JSON 형식으로 결과를 출력합니다.\n\n" +
-                "### **분석 목표 및 기본 원칙:**\n\n" +
-                "1. **정확한 정책 변화 판단**: 입력된 뉴스가 단순 정보 전달이 아닌, **법규, 제도, 지침, 예산 배정 등**에 있어 " +
-                "새로운 방향 제시 또는 수정이 포함된 **정책 변화**에 해당하며, **규모와 직접적인 경제적 파급 효과**를 고려할 때 " +
-                "주식 시장 전반 또는 특정 상장 기업의 주가에 **유의미한 영향을 미칠 만한 정책 변화**에 해당하는지 명확하고 엄격하게 판단합니다.\n" +
-                "2. **주가 영향 분석**: 판단된 정책 변화가 **직접적인 경제적 파급 효과와 규모**를 고려할 때, " +
-                "**주식 시장 전반 또는 특정 상장 기업의 주가에 유의미한 영향을 미칠 만한 변화**인지 심층적으로 분석합니다.\n" +
-                "3. **객관적이고 근거 기반 분석**: 정책 변화의 잠재적 영향을 분석할 때는 **과거의 유사 사례, 관련 산업의 특성, " +
-                "거시 경제 지표 등 구체적인 근거**를 바탕으로 객관적인 시각을 유지합니다. 추측이나 주관적인 의견은 배제합니다.\n" +
-                "4. **한국 주식 시장 특성 반영**: 한국의 업종 분류 및 기업 정보에 대한 이해를 바탕으로 분석을 수행합니다.\n\n" +
-                "### **업종 분류 참고:**\n\n" +
-                "다음 업종 코드를 활용하여 정책의 영향을 받는 업종을 정확하게 분류합니다.\n\n" +
-                "- 1010: 에너지\n- 1510: 소재\n- 2010: 자본재\n- 2020: 상업서비스와공급품\n- 2030: 운송\n- 2510: 자동차와부품\n" +
-                "- 2520: 내구소비재와의류\n- 2530: 호텔,레스토랑,레저 등\n- 2550: 소매(유통)\n- 2560: 교육서비스\n- 3010: 식품과기본식료품소매\n" +
-                "- 3020: 식품,음료,담배\n- 3030: 가정용품과개인용품\n- 3510: 건강관리장비와서비스\n- 3520: 제약과생물공학\n- 4010: 은행\n" +
-                "- 4020: 증권\n- 4030: 다각화된금융\n- 4040: 보험\n- 4050: 부동산\n- 4510: 소프트웨어와서비스\n- 4520: 기술하드웨어와장비\n" +
-                "- 4530: 반도체와반도체장비\n- 4535: 전자와 전기제품\n- 4540: 디스플레이\n- 5010: 전기통신서비스\n- 5020: 미디어와엔터테인먼트\n- 5510: 유틸리티\n\n" +
-                "### **분석할 항목 및 내용 지침:**\n\n" +
-                "1. `isPolicyChange`: 뉴스 기사를 바탕으로 주가에 유의미한 정책 변화 여부를 판단하며, 아래 기준을 모두 충족해야 합니다.\n" +
-                "- **판단 기준**:\n" +
-                "    1. 단순한 정보 전달이 아닌, **법규, 제도, 지침, 예산 배정 등**에 있어 **새로운 방향이나 수정**이 있는지 명확하게 판단합니다.\n" +
-                "    2. **규모와 직접적인 경제적 파급 효과**를 고려할 때, 주식 시장 전반 또는 특정 상장 기업의 주가에 **유의미한 영향을 미칠 만한 정책 변화**인지 판단합니다.\n" +
-                "2. `policyName`: 정책의 핵심 내용을 담은 간결한 이름 (예: \"반도체 산업 육성 특별법 제정\", \"탄소중립 목표 상향 조정\")\n\n" +
-                "3. `stage`: 정책 변화의 현재 단계를 `기획`, `제안`, `심의/검토`, `확정/공포`, `시행` 중 하나로 정확하게 판단합니다.\n\n" +
-                "4. `summary`: 정책의 주요 내용을 간결하게 요약합니다. **해라체 평서문**(`(ㄴ/는)다.`, `~했다.`)으로 서술합니다.\n\n" +
-                "5. `content`:\n" +
-                "    - 정책 변화가 **어떤 업종 및 종목에 긍정적/부정적 영향을 줄 수 있는지**를 분석합니다.\n" +
-                "    - **구체적인 근거**를 포함합니다. (예: 과거의 비슷한 사례, 그로 인한 주가 변동, 관련 시장 규모 변화 예측 등)\n" +
-                "    - ‘~ㅂ니다.’로 간결하게 서술하며, 내용은 1~3가지 정도로 압축하여 제공합니다.\n" +
-                "    - `positiveIndustries`, `negativeIndustries`, `positiveStocks`, `negativeStocks`에 해당하는 업종 이름 및 종목 이름이 `content` 내에 포함되어 설명되면 좋습니다. (업종 코드는 포함하지 않습니다.)\n" +
-                "6. `positiveIndustries` / `negativeIndustries`: 정책 변화가 긍정적/부정적인 영향을 줄 수 있는 **대표·핵심 업종 코드** 리스트를 생성하며, 업종 이름은 포함하지 않습니다. 코드는 반드시 위에 제시된 '업종 분류 참고' 리스트에서 선택합니다.\n" +
-                "7. `positiveStocks` / `negativeStocks`: 정책 변화가 긍정적/부정적인 영향을 줄 수 있는 **대표·핵심 종목 이름** 리스트를 생성합니다. (실제 상장된 기업 이름)\n" +
-                "### **출력 지침**\n\n" +
-                "- 모든 결과는 **JSON 형식**으로 출력하며, 추가적인 설명이나 서론/결론 없이 JSON 객체만 반환합니다.\n" +
-                "- JSON 필드명은 정확히 위에서 지정된 이름을 사용합니다.\n" +
-                "- 값이 없는 필드는 `null`이 아닌, 빈 리스트 (`[]`) 또는 빈 문자열 (`\"\"`)로 처리합니다. " +
-                "단, `isPolicyChange`가 `false`일 때는 `stage`, `summary`, `content`, `positiveIndustries`, `negativeIndustries`, `positiveStocks`, `negativeStocks`를 빈 리스트 (`[]`) 또는 빈 문자열 (`\"\"`)로 처리합니다.";
-
-        Content systemInstructionContent = Content.builder().parts(ImmutableList.of(Part.builder().text(systemPrompt).build())).build();
+    @Value("${api.gemini.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${api.gemini.batch.max-items:8}")
+    private int batchMaxItems;
+
+    @Value("${api.gemini.batch.max-input-tokens:24000}")
+    private int batchMaxInputTokens;
+
+    @Value("${api.gemini.batch.max-output-tokens:16384}")
+    private int batchMaxOutputTokens;
+
+    // Expected size of one article's answer; batches are capped so their answers fit in max-output-tokens.
+    @Value("${api.gemini.batch.output-tokens-per-item:1500}")
+    private int batchOutputTokensPerItem;
+
+    @Value("${api.gemini.context-cache.enabled:true}")
+    private boolean contextCacheEnabled;
+
+    @Value("${api.gemini.context-cache.ttl-minutes:60}")
+    private long contextCacheTtlMinutes;
+
+    // Industries added to the stock table are scrubbed from LLM prose as well, not only the codes listed in the prompt.
+    @EventListener({ApplicationReadyEvent.class, StockReferenceService.StockReferenceReloadedEvent.class})
+    public void onStockReferenceChanged() {
+        Set<String> industryCodes = new HashSet<>(PromptRegistry.INDUSTRY_CODES);
+        industryCodes.addAll(stockReferenceService.getSnapshot().getIndustryCodes());
+        industryCodeScrubber = IndustryCodeScrubber.of(industryCodes);
+        log.info("Industry code scrubber rebuilt. Codes: {}", industryCodeScrubber.size());
+    }
+
+    /**
+     * Returns the analyzed PolicyInfo, or null when the news is not a relevant policy change.
+     * Throws {@link LlmAnalysisException} when no usable answer could be obtained, so the caller can retry later.
+     */
+    public PolicyInfo analyzePolicyNewsWithLlm(PolicyNewsItem newsItem, StockNameMatcher stockNameMatcher) {
+        Optional<String> cachedResponse = policyAnalysisCacheService.find(newsItem, promptRegistry.getAnalysisVersion());
+        if (cachedResponse.isPresent()) {
+            return parseLlmResponse(cachedResponse.get(), newsItem, stockNameMatcher);
+        }
 
         String userPrompt = "다음 뉴스 기사를 분석하여 정책 변화 여부와 그 영향을 JSON 형식으로 응답해주세요." +
                 "\n제목: " + newsItem.getTitle() +
                 "\n부제목: " + newsItem.getSubTitle1() +
                 "\n내용: " + newsItem.getDataContents();
 
-        Schema responseSchema = Schema.builder()
-                .type(Type.Known.OBJECT)
-                .properties(ImmutableMap.<String, Schema>builder()
-                        .put("isPolicyChange", Schema.builder().type(Type.Known.BOOLEAN).build())
-                        .put("policyName", Schema.builder().type(Type.Known.STRING).build())
-                        .put("stage", Schema.builder().type(Type.Known.STRING).enum_(ImmutableList.of("기획", "제안", "심의/검토", "확정/공포", "시행")).build())
-                        .put("summary", Schema.builder().type(Type.Known.STRING).build())
-                        .put("content", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).build()).build())
-                        .put("positiveIndustries", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).enum_(ALL_INDUSTRY_CODES).build()).build())
-                        .put("negativeIndustries", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).enum_(ALL_INDUSTRY_CODES).build()).build())
-                        .put("positiveStocks", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).build()).build())
-                        .put("negativeStocks", Schema.builder().type(Type.Known.ARRAY).items(Schema.builder().type(Type.Known.STRING).build()).build())
-                        .build())
-                .required(ImmutableList.of(
-                        "isPolicyChange", "policyName", "stage", "summary",
-                        "content", "positiveIndustries", "negativeIndustries",
-                        "positiveStocks", "negativeStocks"
-                ))
-                .build();
+        String llmContentString = generate(userPrompt, promptRegistry.getAnalysisPrompt()).text();
 
-        GenerateContentConfig config = GenerateContentConfig.builder()
-                .responseMimeType("application/json")
-                .candidateCount(1)
-                .responseSchema(responseSchema)
-                .systemInstruction(systemInstructionContent)
-                .build();
+        Timer.Sample parseSample = Timer.start();
+        PolicyInfoFromLlm parsedPolicyInfo = readLlmResponse(llmContentString);
+        parseSample.stop(ingestionMetrics.stage(IngestionMetrics.Stage.LLM_PARSE));
+        if (parsedPolicyInfo == null) {
+            throw new LlmAnalysisException("LLM response is not valid JSON.", null);
+        }
+        policyAnalysisCacheService.put(newsItem, promptRegistry.getAnalysisVersion(), llmContentString);
+
+        return toPolicyInfo(parsedPolicyInfo, newsItem, stockNameMatcher);
+    }
+
+    /**
+     * Splits news items into batches for {@link #analyzePolicyNewsBatchWithLlm}, bounded by item count, estimated
+     * input tokens and expected output tokens. An item too large to share a request ends up in a batch of its own.
+     */
+    public List<List<PolicyNewsItem>> splitIntoBatches(List<PolicyNewsItem> newsItems) {
+        return splitIntoBatches(newsItems, batchEnabled ? batchItemLimit() : 1, batchMaxInputTokens);
+    }
+
+    // Re-splits the rest of a batch whose answer was cut off, into batches of at most maxItems.
+    public List<List<PolicyNewsItem>> splitIntoBatches(List<PolicyNewsItem> newsItems, int maxItems) {
+        return splitIntoBatches(newsItems, Math.min(maxItems, batchItemLimit()), batchMaxInputTokens);
+    }
+
+    private int batchItemLimit() {
+        return Math.max(1, Math.min(batchMaxItems, batchMaxOutputTokens / Math.max(1, batchOutputTokensPerItem)));
+    }
+
+    static List<List<PolicyNewsItem>> splitIntoBatches(List<PolicyNewsItem> newsItems, int maxItems, int maxInputTokens) {
+        List<List<PolicyNewsItem>> batches = new ArrayList<>();
+        List<PolicyNewsItem> batch = new ArrayList<>();
+        int batchTokens = 0;
+
+        for (PolicyNewsItem newsItem : newsItems) {
+            int itemTokens = estimateInputTokens(newsItem);
+            if (!batch.isEmpty() && (batch.size() >= maxItems || batchTokens + itemTokens > maxInputTokens)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchTokens = 0;
+            }
+            batch.add(newsItem);
+            batchTokens += itemTokens;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Analyzes several articles in one request, so the system prompt and schema are sent once per batch.
+     * The answers hold an entry for every article with a usable answer: its PolicyInfo, or null when it is not
+     * a relevant policy change. When the answer was cut off at the output token limit, the articles answered before
+     * the cut are kept and the result is marked truncated, so the rest can be re-sent in smaller batches. Other articles
+     * missing from the result (left out or unparsable) should be analyzed one by one with {@link #analyzePolicyNewsWithLlm}.
+     * Throws {@link LlmAnalysisException} when the call itself fails.
+     */
+    public BatchAnalysis analyzePolicyNewsBatchWithLlm(List<PolicyNewsItem> newsItems, StockNameMatcher stockNameMatcher) {
+        Map<PolicyNewsItem, PolicyInfo> results = new IdentityHashMap<>();
+
+        List<PolicyNewsItem> uncachedNewsItems = new ArrayList<>();
+        for (PolicyNewsItem newsItem : newsItems) {
+            Optional<String> cachedResponse = policyAnalysisCacheService.find(newsItem, promptRegistry.getAnalysisVersion());
+            if (cachedResponse.isPresent()) {
+                results.put(newsItem, parseLlmResponse(cachedResponse.get(), newsItem, stockNameMatcher));
+            } else {
+                uncachedNewsItems.add(newsItem);
+            }
+        }
+        if (uncachedNewsItems.isEmpty()) {
+            return new BatchAnalysis(results, 0, false);
+        }
+
+        StringBuilder userPrompt = new StringBuilder("다음 뉴스 기사들을 각각 분석하여 정책 변화 여부와 그 영향을 JSON 배열 형식으로 응답해주세요.");
+        for (int i = 0; i < uncachedNewsItems.size(); i++) {
+            PolicyNewsItem newsItem = uncachedNewsItems.get(i);
+            userPrompt.append("\n\n[articleId: ").append(articleId(i)).append("]")
+                    .append("\n제목: ").append(newsItem.getTitle())
+                    .append("\n부제목: ").append(newsItem.getSubTitle1())
+                    .append("\n내용: ").append(newsItem.getDataContents());
+        }
+
+        LlmOutput llmOutput = generate(userPrompt.toString(), promptRegistry.getBatchAnalysisPrompt());
+
+        Timer.Sample parseSample = Timer.start();
+        // A batch answer runs up to the output token limit, so only its size is logged at info.
+        log.debug("Parsing LLM batch response string: {}", llmOutput.text());
+        Map<String, ObjectNode> answers = readBatchLlmResponse(objectMapper, llmOutput.text());
+        int answeredCount = 0;
+        for (int i = 0; i < uncachedNewsItems.size(); i++) {
+            PolicyNewsItem newsItem = uncachedNewsItems.get(i);
+            ObjectNode answer = answers.get(articleId(i));
+            if (answer == null) {
+                continue;
+            }
+
+            try {
+                PolicyInfoFromLlm parsedPolicyInfo = objectMapper.treeToValue(answer, PolicyInfoFromLlm.class);
+                // Cached in the single-article response format, so either mode can reuse it.
+                policyAnalysisCacheService.put(newsItem, promptRegistry.getAnalysisVersion(), objectMapper.writeValueAsString(answer));
+                results.put(newsItem, toPolicyInfo(parsedPolicyInfo, newsItem, stockNameMatcher));
+                answeredCount++;
+            } catch (JsonProcessingException e) {
+                log.warn("LLM batch answer for article {} is not valid: {}", articleId(i), e.getMessage());
+            }
+        }
+        parseSample.stop(ingestionMetrics.stage(IngestionMetrics.Stage.LLM_PARSE));
+
+        // The rest of a truncated batch is re-batched rather than analyzed one by one, so it is not counted as fallbacks.
+        ingestionMetrics.recordBatch(uncachedNewsItems.size(), llmOutput.truncated() ? 0 : uncachedNewsItems.size() - answeredCount);
+        if (llmOutput.truncated()) {
+            log.warn("LLM batch response hit the output token limit after {} of {} articles; the rest is re-batched.",
+                    answeredCount, uncachedNewsItems.size());
+        } else if (answeredCount < uncachedNewsItems.size()) {
+            log.warn("LLM batch response covered {} of {} articles; the rest fall back to single analysis.",
+                    answeredCount, uncachedNewsItems.size());
+        } else {
+            log.info("LLM batch response answered all {} articles ({} chars).", answeredCount, llmOutput.text().length());
+        }
+        return new BatchAnalysis(results, answeredCount, llmOutput.truncated());
+    }
+
+    /**
+     * Answers keyed by articleId, with the articleId field removed. The array is read element by element,
+     * so an answer cut off mid-way still yields every element completed before the cut.
+     * Empty when the response is not a JSON array.
+     */
+    static Map<String, ObjectNode> readBatchLlmResponse(ObjectMapper objectMapper, String llmContentString) {
+        Map<String, ObjectNode> answers = new HashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(llmContentString)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                log.error("LLM batch response is not a JSON array.");
+                return answers;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                JsonNode node = objectMapper.readTree(parser);
+                if (node instanceof ObjectNode answer && answer.hasNonNull("articleId")) {
+                    String articleId = answer.remove("articleId").asText();
+                    answers.putIfAbsent(articleId, answer);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("LLM batch response JSON parsing stopped after {} answers: {}", answers.size(), e.getMessage());
+        }
+        return answers;
+    }
 
+    private static String articleId(int index) {
+        return String.valueOf(index + 1);
+    }
+
+    private static int estimateInputTokens(PolicyNewsItem newsItem) {
+        return TokenEstimator.estimate(Objects.toString(newsItem.getTitle(), ""))
+                + TokenEstimator.estimate(Objects.toString(newsItem.getSubTitle1(), ""))
+                + TokenEstimator.estimate(Objects.toString(newsItem.getDataContents(), ""));
+    }
+
+    // Calls Gemini and returns the non-empty response text; throws LlmAnalysisException otherwise.
+    private LlmOutput generate(String userPrompt, PromptRegistry.AnalysisPrompt prompt) {
+        GenerateContentConfig config = configFor(prompt);
         GenerateContentResponse llmResponse;
 
         try {
-            llmResponse = client.models.generateContent(
-                    geminiApiModel,
-                    userPrompt,
-                    config
-            );
-            log.info("LLM analysis successful");
+            llmResponse = callGemini(userPrompt, config);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmAnalysisException("Interrupted while waiting for the Gemini rate limit.", e);
         } catch (Exception e) {
-            log.error("Error during LLM analysis: {}", e.getMessage());
-            return null;
+            if (config == prompt.config() || TransientFailures.isTransient(e)) {
+                log.error("Error during LLM analysis: {}", e.getMessage());
+                throw new LlmAnalysisException("LLM call failed: " + e.getMessage(), e);
+            }
+            // The context cache may have expired or been evicted upstream; send the instruction inline instead.
+            log.warn("LLM call with context cache {} failed, retrying inline: {}", prompt.name(), e.getMessage());
+            contextCaches.computeIfPresent(prompt.name(), (name, current) -> current.config() == config ? null : current);
+            try {
+                llmResponse = callGemini(userPrompt, prompt.config());
+            } catch (InterruptedException inlineFailure) {
+                Thread.currentThread().interrupt();
+                throw new LlmAnalysisException("Interrupted while waiting for the Gemini rate limit.", inlineFailure);
+            } catch (Exception inlineFailure) {
+                log.error("Error during LLM analysis: {}", inlineFailure.getMessage());
+                throw new LlmAnalysisException("LLM call failed: " + inlineFailure.getMessage(), inlineFailure);
+            }
         }
 
+        llmResponse.usageMetadata().ifPresent(usage -> ingestionMetrics.recordTokenUsage(geminiApiModel, usage));
+
         String llmContentString = llmResponse.text();
         if (llmContentString == null || llmContentString.isEmpty()) {
             log.error("LLM response is empty.");
-            return null;
+            throw new LlmAnalysisException("LLM response is empty.", null);
         }
 
-        log.info("Parsing LLM response string: {}", llmContentString);
+        boolean truncated = llmResponse.candidates()
+                .flatMap(candidates -> candidates.stream().findFirst())
+                .flatMap(Candidate::finishReason)
+                .map(finishReason -> finishReason.knownEnum() == FinishReason.Known.MAX_TOKENS)
+                .orElse(false);
+        return new LlmOutput(llmContentString, truncated);
+    }
+
+    private GenerateContentResponse callGemini(String userPrompt, GenerateContentConfig config) throws Exception {
+        // The stage timer includes retries and backoff; the request timer measures single attempts.
+        GenerateContentResponse llmResponse = ingestionMetrics.stage(IngestionMetrics.Stage.LLM_CALL).recordCallable(() ->
+                callGeminiApi(() -> geminiRequestTimer.recordCallable(() ->
+                        client.models.generateContent(
+                                geminiApiModel,
+                                userPrompt,
+                                config
+                        ))));
+        log.info("LLM analysis successful");
+        return llmResponse;
+    }
+
+    // The permit is taken per attempt, so retries during a 429 brownout stay within the quota as well.
+    private <T> T callGeminiApi(Callable<T> call) throws Exception {
+        return resilienceService.call(ResilienceService.GEMINI, () -> {
+            rateLimiter.acquire();
+            return call.call();
+        });
+    }
 
+    /**
+     * The prompt's config with its system instruction served from a Gemini context cache, so the instruction
+     * is billed at the cached-token rate. Caches are created on first use and recreated shortly before their TTL
+     * runs out; when one cannot be created the instruction is sent inline and creation is retried later.
+     * One thread creates a cache while the others keep using the previous one, or wait for it when there is none.
+     */
+    private GenerateContentConfig configFor(PromptRegistry.AnalysisPrompt prompt) {
+        if (!contextCacheEnabled) {
+            return prompt.config();
+        }
+        ContextCache contextCache = contextCaches.get(prompt.name());
+        if (contextCache == null || !Instant.now().isBefore(contextCache.refreshAt())) {
+            CompletableFuture<ContextCache> creation = new CompletableFuture<>();
+            CompletableFuture<ContextCache> inProgress = contextCacheCreations.putIfAbsent(prompt.name(), creation);
+            if (inProgress == null) {
+                contextCache = refreshContextCache(prompt, creation);
+            } else if (contextCache == null || contextCache.config() == null || !Instant.now().isBefore(contextCache.expireAt())) {
+                contextCache = inProgress.join();
+            }
+        }
+        return contextCache.config() != null && Instant.now().isBefore(contextCache.expireAt()) ? contextCache.config() : prompt.config();
+    }
+
+    // Runs outside any map lock; the creation future is completed even if the refresh fails unexpectedly.
+    private ContextCache refreshContextCache(PromptRegistry.AnalysisPrompt prompt, CompletableFuture<ContextCache> creation) {
+        ContextCache refreshed = null;
         try {
-            PolicyInfoFromLlm parsedPolicyInfo = objectMapper.readValue(llmContentString, PolicyInfoFromLlm.class);
+            // Another thread may have finished a refresh between our read and the claim.
+            ContextCache current = contextCaches.get(prompt.name());
+            if (current != null && Instant.now().isBefore(current.refreshAt())) {
+                refreshed = current;
+                return current;
+            }
+            refreshed = createContextCache(prompt);
+            contextCaches.put(prompt.name(), refreshed);
+            if (current != null && current.cachedContentName() != null && refreshed.cachedContentName() != null) {
+                deleteContextCache(current.cachedContentName());
+            }
+            return refreshed;
+        } finally {
+            contextCacheCreations.remove(prompt.name(), creation);
+            creation.complete(refreshed != null ? refreshed : ContextCache.unavailable(Instant.now().plus(CONTEXT_CACHE_RETRY_DELAY)));
+        }
+    }
 
-            if (!parsedPolicyInfo.isPolicyChange()) {
-                log.info("LLM determined it's general news or unsuitable for PolicyInfo processing.");
-                return null;
+    private ContextCache createContextCache(PromptRegistry.AnalysisPrompt prompt) {
+        Duration ttl = Duration.ofMinutes(contextCacheTtlMinutes);
+        Instant now = Instant.now();
+        try {
+            CachedContent cachedContent = callGeminiApi(() -> client.caches.create(geminiApiModel, CreateCachedContentConfig.builder()
+                    .displayName(prompt.name() + "-" + promptRegistry.getAnalysisVersion())
+                    .systemInstruction(prompt.systemInstruction())
+                    .ttl(ttl)
+                    .build()));
+            String cachedContentName = cachedContent.name()
+                    .orElseThrow(() -> new IllegalStateException("Context cache created without a name."));
+            log.info("Gemini context cache {} created for prompt {} ({}).", cachedContentName, prompt.name(), promptRegistry.getAnalysisVersion());
+            return new ContextCache(prompt.withCachedContent(cachedContentName), cachedContentName,
+                    now.plus(ttl.multipliedBy(9).dividedBy(10)), now.plus(ttl));
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
             }
+            log.warn("Gemini context cache for prompt {} unavailable, sending the system instruction inline: {}", prompt.name(), e.getMessage());
+            return ContextCache.unavailable(now.plus(CONTEXT_CACHE_RETRY_DELAY));
+        }
+    }
 
-            String llmStage = parsedPolicyInfo.getStage();
-            if (!VALID_POLICY_STAGES.contains(llmStage)) {
-                log.warn("Stage of LLM response is not valid.: {}", llmStage);
-                return null;
+    // Best effort: a cache that cannot be deleted is still dropped by Gemini when its TTL runs out.
+    private void deleteContextCache(String cachedContentName) {
+        try {
+            callGeminiApi(() -> client.caches.delete(cachedContentName, DeleteCachedContentConfig.builder().build()));
+            log.info("Gemini context cache {} deleted.", cachedContentName);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
             }
+            log.warn("Failed to delete Gemini context cache {}, it expires with its TTL: {}", cachedContentName, e.getMessage());
+        }
+    }
+
+    private PolicyInfo parseLlmResponse(String llmContentString, PolicyNewsItem newsItem, StockNameMatcher stockNameMatcher) {
+        PolicyInfoFromLlm parsedPolicyInfo = readLlmResponse(llmContentString);
+        return parsedPolicyInfo != null ? toPolicyInfo(parsedPolicyInfo, newsItem, stockNameMatcher) : null;
+    }
 
-            return convertToPolicyInfo(parsedPolicyInfo, stockNameToCodeMap);
+    private PolicyInfoFromLlm readLlmResponse(String llmContentString) {
+        log.info("Parsing LLM response string: {}", llmContentString);
 
+        try {
+            return objectMapper.readValue(llmContentString, PolicyInfoFromLlm.class);
         } catch (JsonProcessingException e) {
             log.error("LLM response JSON parsing error: {}", e.getMessage(), e);
             return null;
         }
     }
 
-    private PolicyInfo convertToPolicyInfo(PolicyInfoFromLlm parsedInfo, Map<String, String> stockNameToCodeMap) {
+    private PolicyInfo toPolicyInfo(PolicyInfoFromLlm parsedPolicyInfo, PolicyNewsItem newsItem, StockNameMatcher stockNameMatcher) {
+        if (!parsedPolicyInfo.isPolicyChange()) {
+            log.info("LLM determined it's general news or unsuitable for PolicyInfo processing.");
+            return null;
+        }
+
+        String llmStage = parsedPolicyInfo.getStage();
+        if (!VALID_POLICY_STAGES.contains(llmStage)) {
+            log.warn("Stage of LLM response is not valid.: {}", llmStage);
+            return null;
+        }
+
+        return convertToPolicyInfo(parsedPolicyInfo, newsItem, stockNameMatcher);
+    }
+
+    private PolicyInfo convertToPolicyInfo(PolicyInfoFromLlm parsedInfo, PolicyNewsItem newsItem, StockNameMatcher stockNameMatcher) {
         PolicyInfo policyInfo = new PolicyInfo();
         policyInfo.setPolicyName(parsedInfo.getPolicyName());
         policyInfo.setStage(parsedInfo.getStage());
@@ -183,32 +495,46 @@ public class LlmAnalysisService {
         policyInfo.setPositiveIndustries(parsedInfo.getPositiveIndustries());
         policyInfo.setNegativeIndustries(parsedInfo.getNegativeIndustries());
 
-        List<String> cleanedContent = parsedInfo.getContent().stream()
-                .map(contentItem -> {
-                    String modifiedContentItem = contentItem;
-                    for (Map.Entry<String, Pattern> entry : INDUSTRY_CODE_PATTERNS.entrySet()) {
-                        modifiedContentItem = entry.getValue().matcher(modifiedContentItem).replaceAll("");
-                    }
-                    return modifiedContentItem.trim();
-                })
-                .filter(contentItem -> !contentItem.isEmpty())
-                .toList();
-        policyInfo.setContent(cleanedContent);
-
-        List<String> positiveStockCodes = parsedInfo.getPositiveStocks().stream()
-                .map(name -> stockNameToCodeMap.get(name.trim()))
-                .filter(java.util.Objects::nonNull)
-                .toList();
-
-        List<String> negativeStockCodes = parsedInfo.getNegativeStocks().stream()
-                .map(name -> stockNameToCodeMap.get(name.trim()))
-                .filter(java.util.Objects::nonNull)
-                .toList();
-
-        policyInfo.setPositiveStocks(positiveStockCodes);
-        policyInfo.setNegativeStocks(negativeStockCodes);
+        policyInfo.setContent(industryCodeScrubber.scrub(parsedInfo.getContent()));
+
+        String articleText = Objects.toString(newsItem.getTitle(), "") + "\n" + Objects.toString(newsItem.getDataContents(), "");
+        policyInfo.setPositiveStocks(resolveStockCodes(parsedInfo.getPositiveStocks(), articleText, stockNameMatcher));
+        policyInfo.setNegativeStocks(resolveStockCodes(parsedInfo.getNegativeStocks(), articleText, stockNameMatcher));
 
         return policyInfo;
     }
 
+    private List<String> resolveStockCodes(List<String> stockNames, String articleText, StockNameMatcher stockNameMatcher) {
+        StockNameMatcher.Resolution resolution = stockNameMatcher.resolve(stockNames, articleText);
+        if (!resolution.unresolvedNames().isEmpty()) {
+            log.info("LLM stock names not matched to a listed stock: {}", resolution.unresolvedNames());
+        }
+        return resolution.stockCodes();
+    }
+
+    // truncated when generation stopped at the output token limit.
+    private record LlmOutput(String text, boolean truncated) {
+    }
+
+    // llmAnswerCount counts the answers Gemini gave in this request, without the ones served from the analysis cache.
+    public record BatchAnalysis(Map<PolicyNewsItem, PolicyInfo> answers, int llmAnswerCount, boolean truncated) {
+    }
+
+    // config and cachedContentName are null while the cache is unavailable; refreshAt is when to (re)try creating it.
+    private record ContextCache(GenerateContentConfig config, String cachedContentName, Instant refreshAt, Instant expireAt) {
+
+        static ContextCache unavailable(Instant retryAt) {
+            return new ContextCache(null, null, retryAt, retryAt);
+        }
+
+    }
+
+    public static class LlmAnalysisException extends RuntimeException {
+
+        public LlmAnalysisException(String message, Throwable cause) {
+            super(message, cause);
+        }
+
+    }
+
 }
@@ -0,0 +1,162 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.domain.IngestionCursor;
+import com.finsightx.finsightx_backend.domain.ProcessedNewsItem;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import com.finsightx.finsightx_backend.repository.IngestionCursorRepository;
+import com.finsightx.finsightx_backend.repository.ProcessedNewsItemRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Durable ingestion state shared by every instance:
+ * the policy news watermark, the per-NewsItemId processing claims and the retry queue of failed items.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsIngestionStateService {
+
+    public static final String POLICY_NEWS_CURSOR = "policy-news";
+
+    private final IngestionCursorRepository ingestionCursorRepository;
+    private final ProcessedNewsItemRepository processedNewsItemRepository;
+
+    @Value("${ingestion.claim-lease-minutes:30}")
+    private long claimLeaseMinutes;
+
+    @Value("${ingestion.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${ingestion.retry.initial-delay-minutes:5}")
+    private long retryInitialDelayMinutes;
+
+    @Value("${ingestion.retry.max-delay-minutes:360}")
+    private long retryMaxDelayMinutes;
+
+    public OffsetDateTime getLastProcessedNewsTime() {
+        return ingestionCursorRepository.findById(POLICY_NEWS_CURSOR)
+                .map(IngestionCursor::getLastProcessedAt)
+                .orElseGet(() -> OffsetDateTime.now(ZoneId.of("Asia/Seoul")).minusMinutes(30));
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void advanceLastProcessedNewsTime(OffsetDateTime lastProcessedAt) {
+        ingestionCursorRepository.advance(POLICY_NEWS_CURSOR, lastProcessedAt, OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
+    }
+
+    public Set<String> findFinishedNewsItemIds(Collection<String> newsItemIds) {
+        if (newsItemIds.isEmpty()) {
+            return Set.of();
+        }
+        return processedNewsItemRepository.findByNewsItemIdIn(newsItemIds).stream()
+                .filter(item -> item.getStatus() == ProcessedNewsItem.Status.COMPLETED
+                        || item.getStatus() == ProcessedNewsItem.Status.NOT_POLICY
+                        || item.getStatus() == ProcessedNewsItem.Status.SKIPPED)
+                .map(ProcessedNewsItem::getNewsItemId)
+                .collect(Collectors.toSet());
+    }
+
+    public Set<String> findInProgressNewsItemIds(Collection<String> newsItemIds) {
+        if (newsItemIds.isEmpty()) {
+            return Set.of();
+        }
+        return processedNewsItemRepository.findByNewsItemIdIn(newsItemIds).stream()
+                .filter(item -> item.getStatus() == ProcessedNewsItem.Status.IN_PROGRESS)
+                .map(ProcessedNewsItem::getNewsItemId)
+                .collect(Collectors.toSet());
+    }
+
+    // Committed immediately so other instances see the claim while this one is still analyzing.
+    // FAILED items are left to the retry queue's backoff and attempt cap, except for a date backfill.
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public boolean claim(String newsItemId, boolean ignoreRetrySchedule) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
+        return processedNewsItemRepository.claim(newsItemId, now, now.minusMinutes(claimLeaseMinutes),
+                retryMaxAttempts, ignoreRetrySchedule) > 0;
+    }
+
+    // Joins the caller's transaction so the item is only marked once its PolicyInfo and signals are committed.
+    @Transactional
+    public void markCompleted(String newsItemId, Long policyId) {
+        mark(newsItemId, ProcessedNewsItem.Status.COMPLETED, policyId);
+    }
+
+    @Transactional
+    public void markNotPolicy(String newsItemId) {
+        mark(newsItemId, ProcessedNewsItem.Status.NOT_POLICY, null);
+    }
+
+    @Transactional
+    public void markSkipped(String newsItemId) {
+        mark(newsItemId, ProcessedNewsItem.Status.SKIPPED, null);
+    }
+
+    /**
+     * Puts the item on the retry queue: the news item is stored with the failure and becomes due again after
+     * a jittered, exponentially growing delay. After {@code ingestion.retry.max-attempts} failures it is no longer
+     * scheduled, but stays FAILED so a manual backfill of its date can still pick it up.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void markFailed(PolicyNewsItem newsItem, String error) {
+        if (newsItem.getNewsItemId() == null) {
+            return;
+        }
+        processedNewsItemRepository.findById(newsItem.getNewsItemId()).ifPresentOrElse(item -> {
+            OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
+            int attemptCount = item.getAttemptCount() + 1;
+
+            item.setStatus(ProcessedNewsItem.Status.FAILED);
+            item.setProcessedAt(now);
+            item.setAttemptCount(attemptCount);
+            item.setLastError(error);
+            item.setPayload(newsItem);
+            item.setNextRetryAt(attemptCount < retryMaxAttempts ? now.plusSeconds(retryDelaySeconds(attemptCount)) : null);
+            processedNewsItemRepository.save(item);
+
+            if (item.getNextRetryAt() == null) {
+                log.error("NewsItemId {} failed {} times and will not be retried automatically. Last error: {}",
+                        item.getNewsItemId(), attemptCount, error);
+            }
+        }, () -> log.warn("No processing claim found for NewsItemId {}.", newsItem.getNewsItemId()));
+    }
+
+    public List<ProcessedNewsItem> findDueRetries(int limit) {
+        return processedNewsItemRepository.findByStatusAndNextRetryAtLessThanEqualOrderByNextRetryAtAsc(
+                ProcessedNewsItem.Status.FAILED, OffsetDateTime.now(ZoneId.of("Asia/Seoul")), Limit.of(limit));
+    }
+
+    // Half the exponentially growing window plus random jitter, so items that failed together are not retried together.
+    private long retryDelaySeconds(int attemptCount) {
+        long maxDelaySeconds = retryMaxDelayMinutes * 60;
+        long windowSeconds = Math.min(maxDelaySeconds, (retryInitialDelayMinutes * 60) << Math.min(attemptCount - 1, 20));
+        return windowSeconds / 2 + ThreadLocalRandom.current().nextLong(windowSeconds / 2 + 1);
+    }
+
+    private void mark(String newsItemId, ProcessedNewsItem.Status status, Long policyId) {
+        if (newsItemId == null) {
+            return;
+        }
+        processedNewsItemRepository.findById(newsItemId).ifPresentOrElse(item -> {
+            item.setStatus(status);
+            item.setPolicyId(policyId);
+            item.setProcessedAt(OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
+            item.setNextRetryAt(null);
+            item.setPayload(null);
+            processedNewsItemRepository.save(item);
+        }, () -> log.warn("No processing claim found for NewsItemId {}.", newsItemId));
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.domain.PolicyAnalysisCache;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import com.finsightx.finsightx_backend.repository.PolicyAnalysisCacheRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persistent cache of raw LLM analysis responses,
+ * keyed by NewsItemId, a hash of the article text and the prompt version.
+ */
+@Service
+@Slf4j
+public class PolicyAnalysisCacheService {
+
+    private final PolicyAnalysisCacheRepository policyAnalysisCacheRepository;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public PolicyAnalysisCacheService(PolicyAnalysisCacheRepository policyAnalysisCacheRepository, MeterRegistry meterRegistry) {
+        this.policyAnalysisCacheRepository = policyAnalysisCacheRepository;
+        FunctionCounter.builder("llm.analysis.cache.requests", hitCount, AtomicLong::get).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("llm.analysis.cache.requests", missCount, AtomicLong::get).tag("result", "miss").register(meterRegistry);
+    }
+
+    public Optional<String> find(PolicyNewsItem newsItem, String promptVersion) {
+        String cacheKey = cacheKey(newsItem.getNewsItemId(), contentHash(newsItem), promptVersion);
+
+        Optional<String> cached;
+        try {
+            cached = policyAnalysisCacheRepository.findById(cacheKey).map(PolicyAnalysisCache::getResponse);
+        } catch (Exception e) {
+            log.warn("Failed to read LLM analysis cache: {}", e.getMessage());
+            cached = Optional.empty();
+        }
+
+        if (cached.isPresent()) {
+            hitCount.incrementAndGet();
+            log.info("LLM analysis cache hit. NewsItemId: {}", newsItem.getNewsItemId());
+        } else {
+            missCount.incrementAndGet();
+        }
+        return cached;
+    }
+
+    public void put(PolicyNewsItem newsItem, String promptVersion, String response) {
+        String contentHash = contentHash(newsItem);
+
+        PolicyAnalysisCache entry = new PolicyAnalysisCache();
+        entry.setCacheKey(cacheKey(newsItem.getNewsItemId(), contentHash, promptVersion));
+        entry.setNewsItemId(newsItem.getNewsItemId());
+        entry.setContentHash(contentHash);
+        entry.setPromptVersion(promptVersion);
+        entry.setResponse(response);
+        entry.setCreatedAt(OffsetDateTime.now(ZoneId.of("Asia/Seoul")));
+
+        try {
+            policyAnalysisCacheRepository.save(entry);
+        } catch (Exception e) {
+            // A concurrent writer may have stored the same key; the cache is best-effort.
+            log.warn("Failed to store LLM analysis cache entry: {}", e.getMessage());
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private String cacheKey(String newsItemId, String contentHash, String promptVersion) {
+        return sha256(Objects.toString(newsItemId, "") + "\u0000" + contentHash + "\u0000" + promptVersion);
+    }
+
+    private String contentHash(PolicyNewsItem newsItem) {
+        return sha256(Objects.toString(newsItem.getTitle(), "") + "\u0000" +
+                Objects.toString(newsItem.getSubTitle1(), "") + "\u0000" +
+                Objects.toString(newsItem.getDataContents(), ""));
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
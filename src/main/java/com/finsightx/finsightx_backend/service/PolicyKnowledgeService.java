@@ -0,0 +1,112 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.index.PolicyKnowledgeIndex;
+import com.finsightx.finsightx_backend.index.PolicyKnowledgeIndex.PolicyDocument;
+import com.finsightx.finsightx_backend.util.TokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Retrieval of stored policy analyses for the chatbot.
+ * Keeps a {@link PolicyKnowledgeIndex} over the most recent policies and renders the best matches
+ * for a question as compact context lines within a fixed token budget.
+ */
+@Service
+@Slf4j
+public class PolicyKnowledgeService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final PolicyInfoService policyInfoService;
+    private final StockReferenceService stockReferenceService;
+
+    private final int maxPolicies;
+    private final int topK;
+    private final int maxContextTokens;
+    private final double minRelevance;
+
+    private final AtomicReference<PolicyKnowledgeIndex> index = new AtomicReference<>(PolicyKnowledgeIndex.empty());
+
+    public PolicyKnowledgeService(
+            PolicyInfoService policyInfoService,
+            StockReferenceService stockReferenceService,
+            @Value("${chatbot.context.max-policies:5000}") int maxPolicies,
+            @Value("${chatbot.context.top-k:5}") int topK,
+            @Value("${chatbot.context.max-tokens:800}") int maxContextTokens,
+            @Value("${chatbot.context.min-relevance:0.1}") double minRelevance) {
+        this.policyInfoService = policyInfoService;
+        this.stockReferenceService = stockReferenceService;
+        this.maxPolicies = maxPolicies;
+        this.topK = topK;
+        this.maxContextTokens = maxContextTokens;
+        this.minRelevance = minRelevance;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, StockReferenceService.StockReferenceReloadedEvent.class})
+    public void onReferenceDataChanged() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${chatbot.context.refresh-interval-ms:600000}", initialDelayString = "${chatbot.context.refresh-interval-ms:600000}")
+    public void rebuild() {
+        PolicyKnowledgeIndex newIndex = PolicyKnowledgeIndex.build(
+                policyInfoService.getRecentPolicyInfos(maxPolicies),
+                stockReferenceService.getSnapshot()
+        );
+        index.set(newIndex);
+        log.info("Policy knowledge index rebuilt. Policies: {}", newIndex.size());
+    }
+
+    /**
+     * Returns context lines for the policies most relevant to the question, or an empty string if none match.
+     * Lines are added in relevance order until the next one would exceed the token budget.
+     */
+    public String buildContext(String question) {
+        List<PolicyDocument> documents = index.get().search(question, topK, minRelevance);
+
+        StringBuilder context = new StringBuilder();
+        int usedTokens = 0;
+        for (PolicyDocument document : documents) {
+            String line = toContextLine(document);
+            int lineTokens = TokenEstimator.estimate(line);
+            if (usedTokens + lineTokens > maxContextTokens) {
+                break;
+            }
+            context.append(line).append('\n');
+            usedTokens += lineTokens;
+        }
+        return context.toString().trim();
+    }
+
+    private String toContextLine(PolicyDocument document) {
+        StringBuilder line = new StringBuilder("- ").append(document.policyName());
+        if (!document.stage().isEmpty()) {
+            line.append(" (").append(document.stage());
+            if (document.createdAt() != null) {
+                line.append(", ").append(document.createdAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).format(DATE_FORMAT));
+            }
+            line.append(")");
+        }
+        line.append(": ").append(document.summary());
+        if (!document.positiveIndustryNames().isEmpty()) {
+            line.append(" / 수혜 산업: ").append(String.join(", ", document.positiveIndustryNames()));
+        }
+        if (!document.negativeIndustryNames().isEmpty()) {
+            line.append(" / 피해 산업: ").append(String.join(", ", document.negativeIndustryNames()));
+        }
+        if (!document.stockNames().isEmpty()) {
+            line.append(" / 관련 종목: ").append(String.join(", ", document.stockNames()));
+        }
+        return line.toString();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.domain.PolicyInfo;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import com.finsightx.finsightx_backend.index.StockNameMatcher;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs LLM analysis for a batch of news items with bounded concurrency;
+ * {@link LlmAnalysisService} throttles the Gemini requests themselves to the quota.
+ * Items are grouped into multi-article requests where possible; articles a batched answer leaves out
+ * are analyzed one by one within the same task. When a batched answer is cut off at the output token limit,
+ * the articles it did not reach are re-sent in batches no larger than the part that fit.
+ * Results are handed back on the calling thread in completion order,
+ * so persistence and signal fan-out stay single-threaded.
+ * Items whose analysis failed (after the Gemini client's own retries) go to the failure consumer instead.
+ */
+@Service
+@Slf4j
+public class PolicyNewsAnalysisPipeline {
+
+    private final LlmAnalysisService llmAnalysisService;
+    private final ExecutorService executor;
+
+    public PolicyNewsAnalysisPipeline(
+            LlmAnalysisService llmAnalysisService,
+            @Value("${api.gemini.max-concurrency:4}") int maxConcurrency) {
+        this.llmAnalysisService = llmAnalysisService;
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, new CustomizableThreadFactory("llm-analysis-"));
+    }
+
+    public void analyze(List<PolicyNewsItem> newsItems, StockNameMatcher stockNameMatcher,
+                        BiConsumer<PolicyNewsItem, PolicyInfo> resultConsumer,
+                        BiConsumer<PolicyNewsItem, Exception> failureConsumer) {
+        List<List<PolicyNewsItem>> batches = llmAnalysisService.splitIntoBatches(newsItems);
+
+        CompletionService<List<AnalysisResult>> completionService = new ExecutorCompletionService<>(executor);
+        for (List<PolicyNewsItem> batch : batches) {
+            completionService.submit(() -> batch.size() == 1
+                    ? List.of(analyzeSingle(batch.get(0), stockNameMatcher))
+                    : analyzeBatch(batch, stockNameMatcher));
+        }
+
+        for (int i = 0; i < batches.size(); i++) {
+            try {
+                for (AnalysisResult result : completionService.take().get()) {
+                    try {
+                        if (result.failure() != null) {
+                            failureConsumer.accept(result.newsItem(), result.failure());
+                        } else {
+                            resultConsumer.accept(result.newsItem(), result.policyInfo());
+                        }
+                    } catch (RuntimeException e) {
+                        log.error("Failed to process LLM analysis result: {}", e.getMessage(), e);
+                    }
+                }
+            } catch (ExecutionException e) {
+                log.error("LLM analysis task failed: {}", e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while waiting for LLM analysis results. {} of {} batches handled.", i, batches.size());
+                return;
+            }
+        }
+    }
+
+    private List<AnalysisResult> analyzeBatch(List<PolicyNewsItem> batch, StockNameMatcher stockNameMatcher) {
+        LlmAnalysisService.BatchAnalysis analysis;
+        try {
+            analysis = llmAnalysisService.analyzePolicyNewsBatchWithLlm(batch, stockNameMatcher);
+        } catch (RuntimeException e) {
+            // The request itself failed after retries; splitting it up now would only multiply the load.
+            return batch.stream().map(newsItem -> new AnalysisResult(newsItem, null, e)).toList();
+        }
+
+        Map<PolicyNewsItem, PolicyInfo> answers = analysis.answers();
+        List<AnalysisResult> results = new ArrayList<>(batch.size());
+        List<PolicyNewsItem> unanswered = new ArrayList<>();
+        for (PolicyNewsItem newsItem : batch) {
+            if (answers.containsKey(newsItem)) {
+                results.add(new AnalysisResult(newsItem, answers.get(newsItem), null));
+            } else {
+                unanswered.add(newsItem);
+            }
+        }
+
+        if (analysis.truncated() && unanswered.size() > 1) {
+            // Every part is smaller than this batch: no larger than what fit in the response, or half of it when nothing did.
+            // Answers from the analysis cache took no output tokens, so they do not count as having fit.
+            int answered = analysis.llmAnswerCount();
+            int maxItems = answered == 0 ? (unanswered.size() + 1) / 2 : answered;
+            for (List<PolicyNewsItem> part : llmAnalysisService.splitIntoBatches(unanswered, maxItems)) {
+                results.addAll(part.size() == 1
+                        ? List.of(analyzeSingle(part.get(0), stockNameMatcher))
+                        : analyzeBatch(part, stockNameMatcher));
+            }
+        } else {
+            for (PolicyNewsItem newsItem : unanswered) {
+                results.add(analyzeSingle(newsItem, stockNameMatcher));
+            }
+        }
+        return results;
+    }
+
+    private AnalysisResult analyzeSingle(PolicyNewsItem newsItem, StockNameMatcher stockNameMatcher) {
+        try {
+            return new AnalysisResult(newsItem, llmAnalysisService.analyzePolicyNewsWithLlm(newsItem, stockNameMatcher), null);
+        } catch (RuntimeException e) {
+            return new AnalysisResult(newsItem, null, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record AnalysisResult(PolicyNewsItem newsItem, PolicyInfo policyInfo, Exception failure) {
+    }
+
+}
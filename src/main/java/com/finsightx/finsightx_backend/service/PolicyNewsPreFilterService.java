@@ -0,0 +1,166 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.classifier.PolicyNewsClassifier;
+import com.finsightx.finsightx_backend.domain.NewsClassifierModel;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import com.finsightx.finsightx_backend.repository.NewsClassifierModelRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Screens news items with a {@link PolicyNewsClassifier} before they reach the LLM.
+ * <p>
+ * Items scoring below {@code ingestion.prefilter.threshold} are skipped once the model has been trained on
+ * {@code ingestion.prefilter.min-training-examples} LLM verdicts. In shadow mode every item is still forwarded,
+ * so the would-be decisions can be compared with the LLM's. When enforcing, a small random share of would-skip
+ * items is forwarded anyway ("explored"), which keeps recall measurable and the model learning on the items it skips.
+ * <p>
+ * Outcomes are counted in {@code ingestion.prefilter.outcomes{predicted, actual}}, explored items weighted by the
+ * inverse exploration rate, so recall is {@code predicted=policy,actual=policy / actual=policy} in either mode.
+ */
+@Service
+@Slf4j
+public class PolicyNewsPreFilterService {
+
+    public static final String MODEL_NAME = "policy-news-prefilter";
+
+    private final NewsClassifierModelRepository newsClassifierModelRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final boolean shadowMode;
+    private final double threshold;
+    private final double explorationRate;
+    private final long minTrainingExamples;
+    private final double learningRate;
+
+    private final AtomicReference<PolicyNewsClassifier> classifier = new AtomicReference<>(PolicyNewsClassifier.withPriors());
+    private long savedTrainedExamples;
+
+    public PolicyNewsPreFilterService(
+            NewsClassifierModelRepository newsClassifierModelRepository,
+            MeterRegistry meterRegistry,
+            @Value("${ingestion.prefilter.enabled:true}") boolean enabled,
+            @Value("${ingestion.prefilter.shadow-mode:true}") boolean shadowMode,
+            @Value("${ingestion.prefilter.threshold:0.15}") double threshold,
+            @Value("${ingestion.prefilter.exploration-rate:0.05}") double explorationRate,
+            @Value("${ingestion.prefilter.min-training-examples:500}") long minTrainingExamples,
+            @Value("${ingestion.prefilter.learning-rate:0.05}") double learningRate) {
+        this.newsClassifierModelRepository = newsClassifierModelRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.shadowMode = shadowMode;
+        this.threshold = threshold;
+        this.explorationRate = explorationRate;
+        this.minTrainingExamples = minTrainingExamples;
+        this.learningRate = learningRate;
+        Gauge.builder("ingestion.prefilter.trained.examples", classifier, ref -> ref.get().getTrainedExamples())
+                .description("LLM verdicts the pre-filter model has been trained on")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadModel() {
+        newsClassifierModelRepository.findById(MODEL_NAME).ifPresent(model -> {
+            classifier.set(PolicyNewsClassifier.fromBytes(model.getWeights(), model.getTrainedExamples()));
+            savedTrainedExamples = model.getTrainedExamples();
+            log.info("Pre-filter model loaded. Trained examples: {}", model.getTrainedExamples());
+        });
+    }
+
+    // Instances train independently; the last one to save wins, which only loses a few minutes of updates.
+    @Scheduled(fixedDelayString = "${ingestion.prefilter.model-save-interval-ms:600000}",
+            initialDelayString = "${ingestion.prefilter.model-save-interval-ms:600000}")
+    public synchronized void saveModel() {
+        PolicyNewsClassifier current = classifier.get();
+        long trainedExamples = current.getTrainedExamples();
+        if (trainedExamples == savedTrainedExamples) {
+            return;
+        }
+        newsClassifierModelRepository.save(new NewsClassifierModel(MODEL_NAME, current.toBytes(), trainedExamples,
+                OffsetDateTime.now(ZoneId.of("Asia/Seoul"))));
+        savedTrainedExamples = trainedExamples;
+        log.info("Pre-filter model saved. Trained examples: {}", trainedExamples);
+    }
+
+    /**
+     * Splits news items into those to analyze with the LLM and those skipped as unlikely policy changes.
+     */
+    public Screening screen(List<PolicyNewsItem> newsItems) {
+        if (!enabled) {
+            return new Screening(newsItems, List.of(), Map.of());
+        }
+
+        PolicyNewsClassifier current = classifier.get();
+        boolean enforcing = !shadowMode && current.getTrainedExamples() >= minTrainingExamples;
+
+        List<PolicyNewsItem> forwarded = new ArrayList<>();
+        List<PolicyNewsItem> skipped = new ArrayList<>();
+        Map<PolicyNewsItem, Prediction> predictions = new IdentityHashMap<>();
+
+        for (PolicyNewsItem newsItem : newsItems) {
+            PolicyNewsClassifier.Features features = PolicyNewsClassifier.Features.of(newsItem);
+            double score = current.score(features);
+            boolean predictedPolicy = score >= threshold;
+
+            if (predictedPolicy || !enforcing) {
+                forwarded.add(newsItem);
+                predictions.put(newsItem, new Prediction(features, predictedPolicy, 1.0));
+                countDecision(predictedPolicy ? "forward" : "shadow_skip");
+            } else if (explorationRate > 0 && ThreadLocalRandom.current().nextDouble() < explorationRate) {
+                forwarded.add(newsItem);
+                predictions.put(newsItem, new Prediction(features, false, 1.0 / explorationRate));
+                countDecision("explore");
+            } else {
+                skipped.add(newsItem);
+                countDecision("skip");
+                log.debug("Pre-filter skipped news item (score {}). News Title: {}", score, newsItem.getTitle());
+            }
+        }
+        return new Screening(forwarded, skipped, predictions);
+    }
+
+    /**
+     * Feeds the LLM's verdict on a forwarded item back into the model and the recall meters.
+     */
+    public void learn(Screening screening, PolicyNewsItem newsItem, boolean policyChange) {
+        Prediction prediction = screening.predictions().get(newsItem);
+        if (prediction == null) {
+            return;
+        }
+        classifier.get().train(prediction.features(), policyChange, learningRate);
+        Counter.builder("ingestion.prefilter.outcomes")
+                .tag("predicted", prediction.predictedPolicy() ? "policy" : "not_policy")
+                .tag("actual", policyChange ? "policy" : "not_policy")
+                .register(meterRegistry)
+                .increment(prediction.weight());
+    }
+
+    private void countDecision(String decision) {
+        Counter.builder("ingestion.prefilter.decisions").tag("decision", decision).register(meterRegistry).increment();
+    }
+
+    public record Screening(List<PolicyNewsItem> forwarded, List<PolicyNewsItem> skipped,
+                            Map<PolicyNewsItem, Prediction> predictions) {
+    }
+
+    public record Prediction(PolicyNewsClassifier.Features features, boolean predictedPolicy, double weight) {
+    }
+
+}
@@ -5,29 +5,33 @@ import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsApiResponse;
 import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
 import com.finsightx.finsightx_backend.dto.request.NewsItemRequest;
 import com.finsightx.finsightx_backend.dto.response.PolicyInfoResponse;
+import com.finsightx.finsightx_backend.index.PolicySignalMatcher;
+import com.finsightx.finsightx_backend.index.StockNameMatcher;
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
+import com.finsightx.finsightx_backend.parser.PolicyNewsItemFilter;
+import com.finsightx.finsightx_backend.parser.PolicyNewsXmlParser;
+import com.finsightx.finsightx_backend.util.SizeLimitedInputStream;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +39,7 @@ import java.util.stream.Stream;
 public class PolicyNewsService {
 
     private final RestTemplate restTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${api.policy-news.service-key}")
     private String serviceKey;
@@ -43,138 +48,73 @@ public class PolicyNewsService {
     private String apiEndpoint;
 
     private final DateTimeFormatter apiDateFormat = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private final DateTimeFormatter apiDateTimeFormatter = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss");
+    private final PolicyNewsXmlParser policyNewsXmlParser = new PolicyNewsXmlParser();
 
     private final LlmAnalysisService llmAnalysisService;
+    private final PolicyNewsAnalysisPipeline policyNewsAnalysisPipeline;
+    private final PolicyNewsPreFilterService policyNewsPreFilterService;
     private final PolicyInfoService policyInfoService;
     private final PolicySignalService policySignalService;
-    private final UserService userService;
-    private final StockService stockService;
+    private final PortfolioIndexService portfolioIndexService;
+    private final StockReferenceService stockReferenceService;
     private final DailyReportService dailyReportService;
+    private final NewsIngestionStateService newsIngestionStateService;
+    private final ResilienceService resilienceService;
+    private final IngestionMetrics ingestionMetrics;
 
-    private OffsetDateTime lastProcessedNewsTime = OffsetDateTime.now(ZoneId.of("Asia/Seoul")).minusMinutes(30);
-
-    private Map<String, Stock> allStocksMap;
-    private Map<String, String> stockCodeToIndustryCodeMap;
-    private Map<String, String> stockCodeToNameMap;
-
-    @jakarta.annotation.PostConstruct
-    public void initStockMaps() {
-        log.info("Initializing all stock data maps...");
-        List<Stock> allStocks = stockService.findAll();
-        allStocksMap = allStocks.stream()
-                .collect(Collectors.toMap(Stock::getStockCode, Function.identity()));
-        stockCodeToIndustryCodeMap = allStocks.stream()
-                .collect(Collectors.toMap(Stock::getStockCode, Stock::getIndustryCode));
-        stockCodeToNameMap = allStocks.stream()
-                .collect(Collectors.toMap(Stock::getStockCode, Stock::getStockName));
-    }
+    // Late-approved items can land behind the watermark; NewsItemId claims make the overlap safe to re-read.
+    @Value("${ingestion.overlap-minutes:60}")
+    private long overlapMinutes;
+
+    @Value("${http.client.news-api.max-response-bytes:20971520}")
+    private long maxResponseBytes;
 
-    private PolicyNewsApiResponse fetchPolicyNewsFromApi(LocalDate startDate, LocalDate endDate) {
+    @Value("${ingestion.retry.batch-size:50}")
+    private int retryBatchSize;
+
+    // Transient failures (timeouts, 429, 5xx) are retried with backoff before the call is reported as failed.
+    private PolicyNewsApiResponse fetchPolicyNewsFromApi(LocalDate startDate, LocalDate endDate, PolicyNewsItemFilter filter) {
         String formattedStartDate = startDate.format(apiDateFormat);
         String formattedEndDate = endDate.format(apiDateFormat);
 
         String urlString = apiEndpoint + "?serviceKey=" + serviceKey + "&startDate=" + formattedStartDate + "&endDate=" + formattedEndDate;
         final URI url = URI.create(urlString);
 
-        String xmlResponse = null;
         try {
-            xmlResponse = restTemplate.getForObject(url, String.class);
-            return parseXmlResponse(xmlResponse);
-        } catch (Exception e) {
-            log.error("Policy news API call or XML parsing error. URL: {}, Response: {}", url, xmlResponse, e);
-            PolicyNewsApiResponse errorResponse = new PolicyNewsApiResponse();
-            errorResponse.setResultCode("99");
-            errorResponse.setResultMsg("API call or XML parsing error: " + e.getMessage());
-            errorResponse.setNewsItems(Collections.emptyList());
-            return errorResponse;
-        }
-    }
-
-    private PolicyNewsApiResponse parseXmlResponse(String xmlResponse) {
-        PolicyNewsApiResponse policyNewsApiResponse = new PolicyNewsApiResponse();
-        List<PolicyNewsItem> newsItems = new ArrayList<>();
-
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new InputSource(new StringReader(xmlResponse)));
-            doc.getDocumentElement().normalize();
-
-            NodeList headerList = doc.getElementsByTagName("header");
-            if (headerList.getLength() > 0) {
-                Element headerElement = (Element) headerList.item(0);
-                String resultCode = getTagValue("resultCode", headerElement);
-                String resultMsg = getTagValue("resultMsg", headerElement);
-                policyNewsApiResponse.setResultCode(resultCode);
-                policyNewsApiResponse.setResultMsg(resultMsg);
-
-                if (!"0".equals(resultCode) && !"NORMAL_SERVICE".equals(resultMsg)) {
-                    log.warn("Policy news API Error: {} - {}", resultCode, resultMsg);
-                    return policyNewsApiResponse;
-                }
-            } else {
-                log.warn("Missing header tag in API response.");
-                policyNewsApiResponse.setResultCode("98");
-                policyNewsApiResponse.setResultMsg("Missing header tag in API response.");
-                return policyNewsApiResponse;
-            }
-
-            NodeList newsItemList = doc.getElementsByTagName("NewsItem");
-            for (int i = 0; i < newsItemList.getLength(); i++) {
-                Element newsItemElement = (Element) newsItemList.item(i);
-                PolicyNewsItem item = new PolicyNewsItem();
-                item.setNewsItemId(getTagValue("NewsItemId", newsItemElement));
-                item.setContentsStatus(getTagValue("ContentsStatus", newsItemElement));
-                item.setModifyId(getTagValue("ModifyId", newsItemElement));
-                item.setApproveDate(parseDateString(getTagValue("ApproveDate", newsItemElement)));
-                item.setApproverName(getTagValue("ApproverName", newsItemElement));
-                item.setEmbargoDate(getTagValue("EmbargoDate", newsItemElement));
-                item.setGroupingCode(getTagValue("GroupingCode", newsItemElement));
-                item.setTitle(getTagValue("Title", newsItemElement));
-                item.setSubTitle1(getTagValue("SubTitle1", newsItemElement));
-                item.setSubTitle2(getTagValue("SubTitle2", newsItemElement));
-                item.setSubTitle3(getTagValue("SubTitle3", newsItemElement));
-                item.setContentsType(getTagValue("ContentsType", newsItemElement));
-                item.setDataContents(getTagValue("DataContents", newsItemElement));
-                item.setMinisterCode(getTagValue("MinisterCode", newsItemElement));
-                item.setOriginalUrl(getTagValue("OriginalUrl", newsItemElement));
-                item.setThumbnailUrl(getTagValue("ThumbnailUrl", newsItemElement));
-                item.setOriginalImgUrl(getTagValue("OriginalimgUrl", newsItemElement));
-                newsItems.add(item);
+            // The body is parsed while it streams in, so the fetch stage includes the parse stage.
+            PolicyNewsApiResponse apiResponse = ingestionMetrics.stage(IngestionMetrics.Stage.FETCH).recordCallable(() ->
+                    resilienceService.call(ResilienceService.NEWS_API, () ->
+                            restTemplate.execute(url, HttpMethod.GET, null,
+                                    response -> parseXmlResponse(new SizeLimitedInputStream(response.getBody(), maxResponseBytes), filter))));
+            if (apiResponse == null) {
+                return errorResponse("Empty API response.");
             }
+            ingestionMetrics.countNewsItems("filtered", apiResponse.getFilteredItemCount());
+            return apiResponse;
         } catch (Exception e) {
-            log.error("XML parsing error. Response: {}", xmlResponse, e);
-            policyNewsApiResponse.setResultCode("99");
-            policyNewsApiResponse.setResultMsg("XML parsing error: " + e.getMessage());
-            policyNewsApiResponse.setNewsItems(Collections.emptyList());
+            log.error("Policy news API call error. URL: {}", url, e);
+            return errorResponse("API call or XML parsing error: " + e.getMessage());
         }
-        policyNewsApiResponse.setNewsItems(newsItems);
-        return policyNewsApiResponse;
     }
 
-    private String getTagValue(String tag, Element element) {
-        NodeList nl = element.getElementsByTagName(tag);
-        if (nl != null && nl.getLength() > 0) {
-            NodeList child = nl.item(0).getChildNodes();
-            if (child != null && child.getLength() > 0) {
-                return child.item(0).getNodeValue();
-            }
+    private PolicyNewsApiResponse parseXmlResponse(InputStream xmlResponse, PolicyNewsItemFilter filter) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return policyNewsXmlParser.parse(xmlResponse, filter);
+        } catch (XMLStreamException e) {
+            log.error("XML parsing error.", e);
+            return errorResponse("XML parsing error: " + e.getMessage());
+        } finally {
+            sample.stop(ingestionMetrics.stage(IngestionMetrics.Stage.PARSE));
         }
-        return null;
     }
 
-    private OffsetDateTime parseDateString(String dateString) {
-        if (dateString == null || dateString.isEmpty()) {
-            return null;
-        }
-        try {
-            LocalDateTime localDateTime = LocalDateTime.parse(dateString, apiDateTimeFormatter);
-            return localDateTime.atZone(ZoneId.of("Asia/Seoul")).toOffsetDateTime();
-        } catch (Exception e) {
-            log.warn("Date string parsing error: '{}'", dateString, e);
-            return null;
-        }
+    private PolicyNewsApiResponse errorResponse(String resultMsg) {
+        PolicyNewsApiResponse errorResponse = new PolicyNewsApiResponse();
+        errorResponse.setResultCode("99");
+        errorResponse.setResultMsg(resultMsg);
+        errorResponse.setNewsItems(Collections.emptyList());
+        return errorResponse;
     }
 
     private String parseOriginalUrl(String originalUrl) {
@@ -196,15 +136,16 @@ public class PolicyNewsService {
         return cleanedUrl;
     }
 
-    @Transactional
     public void processPolicyNews() {
+        OffsetDateTime lastProcessedNewsTime = newsIngestionStateService.getLastProcessedNewsTime();
         log.info("Start processing policy news. Last processing time: {}", lastProcessedNewsTime);
 
         OffsetDateTime now = OffsetDateTime.now(ZoneId.of("Asia/Seoul"));
-        LocalDate startDate = lastProcessedNewsTime.toLocalDate();
+        LocalDate startDate = lastProcessedNewsTime.minusMinutes(overlapMinutes).toLocalDate();
         LocalDate endDate = now.toLocalDate();
 
-        PolicyNewsApiResponse apiResponse = fetchPolicyNewsFromApi(startDate, endDate);
+        PolicyNewsApiResponse apiResponse = fetchPolicyNewsFromApi(startDate, endDate,
+                PolicyNewsItemFilter.policyNewsApprovedAfter(lastProcessedNewsTime.minusMinutes(overlapMinutes)));
 
         if (!"0".equals(apiResponse.getResultCode())) {
             log.error("Policy news API call or XML parsing error: {} - {}", apiResponse.getResultCode(), apiResponse.getResultMsg());
@@ -212,145 +153,152 @@ public class PolicyNewsService {
         }
         if (apiResponse.getNewsItems() == null || apiResponse.getNewsItems().isEmpty()) {
             log.info("Missing NewsItem in API");
-            lastProcessedNewsTime = now;
+            newsIngestionStateService.advanceLastProcessedNewsTime(now);
             return;
         }
 
-        log.info("Collected {} NewsItems from API.", apiResponse.getNewsItems().size());
+        log.info("Collected {} approved policy NewsItems from API.", apiResponse.getNewsItems().size());
 
-        List<PolicyNewsItem> newNewsItems = apiResponse.getNewsItems().stream()
-                .filter(newsItem -> newsItem.getApproveDate() != null
-                        && newsItem.getApproveDate().isAfter(lastProcessedNewsTime)
-                        && newsItem.getGroupingCode().contains("policy"))
-                .toList();
+        List<PolicyNewsItem> newNewsItems = claimUnprocessedNewsItems(apiResponse.getNewsItems(), false);
 
         if (newNewsItems.isEmpty()) {
             log.info("No new approved policy news or news has already been processed.");
-            lastProcessedNewsTime = now;
+            newsIngestionStateService.advanceLastProcessedNewsTime(now);
             return;
         }
 
         log.info("Start processing {} newly approved news items.", newNewsItems.size());
 
-        Map<String, String> currentStockNameToCodeMap = allStocksMap.values().stream()
-                .collect(Collectors.toMap(Stock::getStockName, Stock::getStockCode, (existing, replacement) -> existing));
+        analyzeAndProcessNewsItems(newNewsItems, false);
 
+        newsIngestionStateService.advanceLastProcessedNewsTime(now);
+        log.info("Policy news processing complete. Updating last processed time for next scheduling: {}", now);
+    }
 
-        for (PolicyNewsItem newsItem : newNewsItems) {
-            PolicyInfo policyInfo = llmAnalysisService.analyzePolicyNewsWithLlm(newsItem, currentStockNameToCodeMap);
+    private List<PolicyNewsItem> claimUnprocessedNewsItems(List<PolicyNewsItem> newsItems, boolean ignoreRetrySchedule) {
+        Set<String> finishedNewsItemIds = newsIngestionStateService.findFinishedNewsItemIds(newsItems.stream()
+                .map(PolicyNewsItem::getNewsItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
 
-            if (policyInfo != null) {
-                log.info("LLM determined as policy change news and PolicyInfo processing complete: {}", policyInfo.getPolicyName());
+        List<PolicyNewsItem> claimedNewsItems = newsItems.stream()
+                .filter(newsItem -> newsItem.getNewsItemId() == null
+                        || (!finishedNewsItemIds.contains(newsItem.getNewsItemId())
+                        && newsIngestionStateService.claim(newsItem.getNewsItemId(), ignoreRetrySchedule)))
+                .toList();
+        ingestionMetrics.countNewsItems("skipped", newsItems.size() - claimedNewsItems.size());
+        return claimedNewsItems;
+    }
 
-                policyInfo.setOriginalUrl(parseOriginalUrl(newsItem.getOriginalUrl()));
-                try {
-                    policyInfo = policyInfoService.savePolicyInfo(policyInfo);
-                    log.info("PolicyInfo saved: ID {}", policyInfo.getPolicyId());
-                } catch (Exception e) {
-                    log.error("Failed to save PolicyInfo: {}", e.getMessage());
-                }
+    // Each news item is persisted in its own transaction together with its signals and processing mark,
+    // so a crash never leaves a saved PolicyInfo without signals or a finished item unmarked.
+    private int analyzeAndProcessNewsItems(List<PolicyNewsItem> newsItems, boolean useApproveDateAsCreatedAt) {
+        StockNameMatcher stockNameMatcher = stockReferenceService.getSnapshot().getStockNameMatcher();
 
-                processPolicySignalsForUsers(policyInfo);
-            } else {
-                log.info("LLM determined it's general news or unsuitable for PolicyInfo processing. News Title: {}", newsItem.getTitle());
-            }
+        PolicyNewsPreFilterService.Screening screening = policyNewsPreFilterService.screen(newsItems);
+        for (PolicyNewsItem skippedNewsItem : screening.skipped()) {
+            newsIngestionStateService.markSkipped(skippedNewsItem.getNewsItemId());
+        }
+        ingestionMetrics.countNewsItems("prefiltered", screening.skipped().size());
+        if (!screening.skipped().isEmpty()) {
+            log.info("Pre-filter skipped {} of {} news items.", screening.skipped().size(), newsItems.size());
         }
 
-        lastProcessedNewsTime = now;
-        log.info("Policy news processing complete. Updating last processed time for next scheduling: {}", lastProcessedNewsTime);
-    }
+        AtomicInteger processedCount = new AtomicInteger(screening.skipped().size());
+        ingestionMetrics.countNewsItems("analyzed", screening.forwarded().size());
 
-    private void processPolicySignalsForUsers(PolicyInfo policyInfo) {
-        List<User> allUsers = userService.findAll();
-        log.info("Start processing policy signal for all {} users.", allUsers.size());
-
-        final Set<String> policyPositiveIndustryCodes = Optional.ofNullable(policyInfo.getPositiveIndustries()).orElse(Collections.emptyList()).stream().collect(Collectors.toSet());
-        final Set<String> policyNegativeIndustryCodes = Optional.ofNullable(policyInfo.getNegativeIndustries()).orElse(Collections.emptyList()).stream().collect(Collectors.toSet());
-        final Set<String> policyPositiveStockCodes = Optional.ofNullable(policyInfo.getPositiveStocks()).orElse(Collections.emptyList()).stream().collect(Collectors.toSet());
-        final Set<String> policyNegativeStockCodes = Optional.ofNullable(policyInfo.getNegativeStocks()).orElse(Collections.emptyList()).stream().collect(Collectors.toSet());
-
-        for (User user : allUsers) {
-            List<PortfolioItem> userPortfolio = user.getPortfolio();
-            if (userPortfolio == null || userPortfolio.isEmpty()) {
-                continue;
-            }
+        policyNewsAnalysisPipeline.analyze(screening.forwarded(), stockNameMatcher, (newsItem, policyInfo) -> {
+            processedCount.incrementAndGet();
+            policyNewsPreFilterService.learn(screening, newsItem, policyInfo != null);
 
-            final Set<String> userPortfolioStockCodes = userPortfolio.stream()
-                    .map(PortfolioItem::getStockCode)
-                    .collect(Collectors.toSet());
-
-            Set<String> userImpactStockNamesForSignal = new LinkedHashSet<>();
-
-            Set<String> positiveImpactStockCodes = userPortfolioStockCodes.stream()
-                    .filter(policyPositiveStockCodes::contains)
-                    .collect(Collectors.toSet());
-            Set<String> negativeImpactStockCodes = userPortfolioStockCodes.stream()
-                    .filter(policyNegativeStockCodes::contains)
-                    .collect(Collectors.toSet());
-
-            for (String userStockCode : userPortfolioStockCodes) {
-                String industryCode = stockCodeToIndustryCodeMap.get(userStockCode);
-                if (industryCode != null) {
-                    if (policyPositiveIndustryCodes.contains(industryCode)) {
-                        positiveImpactStockCodes.add(userStockCode);
-                    }
-                    if (policyNegativeIndustryCodes.contains(industryCode)) {
-                        negativeImpactStockCodes.add(userStockCode);
-                    }
-                }
+            if (policyInfo == null) {
+                log.info("LLM determined it's general news or unsuitable for PolicyInfo processing. News Title: {}", newsItem.getTitle());
+                newsIngestionStateService.markNotPolicy(newsItem.getNewsItemId());
+                ingestionMetrics.countNewsItems("not_policy", 1);
+                return;
             }
 
-            Stream.concat(positiveImpactStockCodes.stream(), negativeImpactStockCodes.stream())
-                    .distinct()
-                    .map(stockCodeToNameMap::get)
-                    .filter(Objects::nonNull)
-                    .forEach(userImpactStockNamesForSignal::add);
-
-            List<String> finalUserImpactStockNames = new ArrayList<>(userImpactStockNamesForSignal);
-
-            if (!finalUserImpactStockNames.isEmpty()) {
-                String message = createPolicySignalMessage(
-                        new ArrayList<>(positiveImpactStockCodes),
-                        new ArrayList<>(negativeImpactStockCodes),
-                        policyInfo.getStage()
-                );
-
-                if (message.isEmpty()) return;
-
-                PolicySignal createdSignal = policySignalService.createPolicySignal(
-                        user.getUserId(),
-                        message,
-                        policyInfo.getPolicyId(),
-                        finalUserImpactStockNames,
-                        policyInfo.getCreatedAt()
-                );
-                log.info("PolicySignal created for user {}: ID {}, Policy ID {}", user.getUserId(), createdSignal.getPolicySignalId(), createdSignal.getPolicyId());
-
-                String notificationTitle = "새로운 정책 시그널";
-                String notificationBody = createNotificationBody(finalUserImpactStockNames);
+            log.info("LLM determined as policy change news and PolicyInfo processing complete: {}", policyInfo.getPolicyName());
 
-                log.info("Push notification sent to user {}.", user.getUserId());
-            } else {
-                log.debug("No policy-related stocks in user {}'s holdings. Not generating a signal.", user.getUserId());
+            if (useApproveDateAsCreatedAt && newsItem.getApproveDate() != null) {
+                policyInfo.setCreatedAt(newsItem.getApproveDate());
+            }
+            policyInfo.setOriginalUrl(parseOriginalUrl(newsItem.getOriginalUrl()));
+            policyInfo.setNewsItemId(newsItem.getNewsItemId());
+            // The persist stage includes the signal fan-out, which runs in the same transaction.
+            try {
+                ingestionMetrics.stage(IngestionMetrics.Stage.PERSIST).record(() -> transactionTemplate.executeWithoutResult(status -> {
+                    PolicyInfo savedPolicyInfo = policyInfoService.savePolicyInfo(policyInfo);
+                    log.info("PolicyInfo saved: ID {}", savedPolicyInfo.getPolicyId());
+
+                    processPolicySignalsForUsers(savedPolicyInfo);
+                    newsIngestionStateService.markCompleted(newsItem.getNewsItemId(), savedPolicyInfo.getPolicyId());
+                }));
+                ingestionMetrics.countNewsItems("policy", 1);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("PolicyInfo for NewsItemId {} already exists. Skipping.", newsItem.getNewsItemId());
+                newsIngestionStateService.markCompleted(newsItem.getNewsItemId(), null);
+            } catch (Exception e) {
+                log.error("Failed to save PolicyInfo: {}", e.getMessage());
+                newsIngestionStateService.markFailed(newsItem, "Failed to save PolicyInfo: " + e.getMessage());
+                ingestionMetrics.countNewsItems("failed", 1);
             }
+        }, (newsItem, failure) -> {
+            processedCount.incrementAndGet();
+            log.warn("LLM analysis failed, queued for retry. News Title: {}, Error: {}", newsItem.getTitle(), failure.getMessage());
+            newsIngestionStateService.markFailed(newsItem, failure.getMessage());
+            ingestionMetrics.countNewsItems("failed", 1);
+        });
+
+        return processedCount.get();
+    }
+
+    private void processPolicySignalsForUsers(PolicyInfo policyInfo) {
+        Timer.Sample sample = Timer.start();
+        final StockReferenceSnapshot stockSnapshot = stockReferenceService.getSnapshot();
+
+        List<PolicySignalMatcher.Match> matches = PolicySignalMatcher.match(policyInfo, portfolioIndexService.getPortfolioIndex(), stockSnapshot);
+        log.info("Start processing policy signal for {} matched users.", matches.size());
+
+        List<PolicySignal> policySignals = new ArrayList<>();
+
+        for (PolicySignalMatcher.Match match : matches) {
+            String message = createPolicySignalMessage(
+                    stockSnapshot,
+                    match.positiveStockCodes(),
+                    match.negativeStockCodes(),
+                    policyInfo.getStage()
+            );
+
+            if (message.isEmpty()) continue;
+
+            policySignals.add(policySignalService.buildPolicySignal(
+                    match.userId(),
+                    message,
+                    policyInfo.getPolicyId(),
+                    match.impactStockNames(),
+                    policyInfo.getCreatedAt()
+            ));
         }
-        log.info("Policy signal processing complete for all users.");
+        int createdCount = policySignalService.createPolicySignals(policySignals);
+        sample.stop(ingestionMetrics.stage(IngestionMetrics.Stage.SIGNAL_FANOUT));
+        ingestionMetrics.recordSignalsPerPolicy(createdCount);
+        log.info("Policy signal processing complete. {} PolicySignals created for Policy ID {}.", createdCount, policyInfo.getPolicyId());
     }
 
 
-    private String createPolicySignalMessage(List<String> positiveStockCodes, List<String> negativeStockCodes, String stage) {
+    private String createPolicySignalMessage(StockReferenceSnapshot stockSnapshot, List<String> positiveStockCodes, List<String> negativeStockCodes, String stage) {
         StringBuilder messageBuilder = new StringBuilder("귀하의 보유 종목 중 ");
 
         Function<List<String>, List<String>> getStockNamesFromCodes = codes ->
                 codes.stream()
-                        .map(stockCodeToNameMap::get)
+                        .map(stockSnapshot::getStockName)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList());
 
         List<String> positiveStockNames = getStockNamesFromCodes.apply(positiveStockCodes);
         List<String> negativeStockNames = getStockNamesFromCodes.apply(negativeStockCodes);
-        System.out.println("positiveStockNames: " + positiveStockNames);
-        System.out.println("negativeStockNames: " + negativeStockNames);
+        log.debug("positiveStockNames: {}, negativeStockNames: {}", positiveStockNames, negativeStockNames);
 
 
         if (!positiveStockNames.isEmpty()) {
@@ -395,10 +343,15 @@ public class PolicyNewsService {
         newsItem.setSubTitle1(news.getSubTitle1());
         newsItem.setDataContents(news.getDataContents());
 
-        Map<String, String> currentStockNameToCodeMap = allStocksMap.values().stream()
-                .collect(Collectors.toMap(Stock::getStockName, Stock::getStockCode, (existing, replacement) -> existing));
+        StockNameMatcher stockNameMatcher = stockReferenceService.getSnapshot().getStockNameMatcher();
 
-        PolicyInfo policyInfo = llmAnalysisService.analyzePolicyNewsWithLlm(newsItem, currentStockNameToCodeMap);
+        PolicyInfo policyInfo;
+        try {
+            policyInfo = llmAnalysisService.analyzePolicyNewsWithLlm(newsItem, stockNameMatcher);
+        } catch (LlmAnalysisService.LlmAnalysisException e) {
+            log.error("LLM analysis failed. News Title: {}", newsItem.getTitle());
+            return null;
+        }
 
         if (policyInfo != null) {
             log.info("LLM determined as policy change news and PolicyInfo processing complete: {}", policyInfo.getPolicyName());
@@ -412,7 +365,26 @@ public class PolicyNewsService {
 
     }
 
-    @Transactional
+    /**
+     * Re-analyzes failed news items whose retry is due, from the payload stored with the failure.
+     * Returns the number of news items handled.
+     */
+    public int retryFailedNewsItems() {
+        List<PolicyNewsItem> dueNewsItems = newsIngestionStateService.findDueRetries(retryBatchSize).stream()
+                .filter(item -> item.getPayload() != null && newsIngestionStateService.claim(item.getNewsItemId(), false))
+                .map(ProcessedNewsItem::getPayload)
+                .toList();
+
+        if (dueNewsItems.isEmpty()) {
+            return 0;
+        }
+
+        // Like the scheduled ingest, retried policies are dated now: only today's report is built (at 21:00),
+        // so a policy dated back to its approval day would never reach a report.
+        log.info("Retrying analysis of {} failed news items.", dueNewsItems.size());
+        return analyzeAndProcessNewsItems(dueNewsItems, false);
+    }
+
     public void processPolicyNewsByDate(String dateString) {
         LocalDate date;
         try {
@@ -424,62 +396,50 @@ public class PolicyNewsService {
             return;
         }
 
-        LocalDate startDate = date;
-        LocalDate endDate = date;
+        try {
+            processPolicyNewsByDate(date);
+        } catch (IllegalStateException e) {
+            log.error(e.getMessage());
+        }
+    }
 
-        PolicyNewsApiResponse apiResponse = fetchPolicyNewsFromApi(startDate, endDate);
+    /**
+     * Analyzes all policy news of the given date and (re)builds its daily report.
+     * Returns the number of news items handled; throws IllegalStateException when the news API call fails
+     * or some of the date's news items are still claimed by another run.
+     */
+    public int processPolicyNewsByDate(LocalDate date) {
+        PolicyNewsApiResponse apiResponse = fetchPolicyNewsFromApi(date, date, PolicyNewsItemFilter.policyNews());
 
         if (!"0".equals(apiResponse.getResultCode())) {
-            log.error("Policy news API call or XML parsing error: {} - {}", apiResponse.getResultCode(), apiResponse.getResultMsg());
-            return;
+            throw new IllegalStateException("Policy news API call or XML parsing error: " + apiResponse.getResultCode() + " - " + apiResponse.getResultMsg());
         }
         if (apiResponse.getNewsItems() == null || apiResponse.getNewsItems().isEmpty()) {
             log.info("Missing NewsItem in API");
-            return;
+            return 0;
         }
 
-        log.info("Collected {} NewsItems from API.", apiResponse.getNewsItems().size());
+        log.info("Collected {} policy NewsItems from API.", apiResponse.getNewsItems().size());
 
-        List<PolicyNewsItem> newNewsItems = apiResponse.getNewsItems().stream()
-                .filter(newsItem -> newsItem.getGroupingCode().contains("policy"))
-                .toList();
+        // A backfill re-analyzes the date's failed items too, including those out of retry attempts.
+        List<PolicyNewsItem> newNewsItems = claimUnprocessedNewsItems(apiResponse.getNewsItems(), true);
 
+        int processedCount = 0;
         if (newNewsItems.isEmpty()) {
             log.info("No new approved policy news or news has already been processed.");
-            return;
+        } else {
+            log.info("Start processing {} newly approved news items.", newNewsItems.size());
+            processedCount = analyzeAndProcessNewsItems(newNewsItems, true);
         }
 
-        log.info("Start processing {} newly approved news items.", newNewsItems.size());
-
-        Map<String, String> currentStockNameToCodeMap = allStocksMap.values().stream()
-                .collect(Collectors.toMap(Stock::getStockName, Stock::getStockCode, (existing, replacement) -> existing));
-
-        for (PolicyNewsItem newsItem : newNewsItems) {
-            PolicyInfo policyInfo = llmAnalysisService.analyzePolicyNewsWithLlm(newsItem, currentStockNameToCodeMap);
-
-            if (policyInfo != null) {
-                log.info("LLM determined as policy change news and PolicyInfo processing complete: {}", policyInfo.getPolicyName());
-
-                policyInfo.setCreatedAt(newsItem.getApproveDate());
-                policyInfo.setOriginalUrl(parseOriginalUrl(newsItem.getOriginalUrl()));
-                try {
-                    policyInfo = policyInfoService.savePolicyInfo(policyInfo);
-                    log.info("PolicyInfo saved: ID {}", policyInfo.getPolicyId());
-                } catch (Exception e) {
-                    log.error("Failed to save PolicyInfo: {}", e.getMessage());
-                }
-
-                processPolicySignalsForUsers(policyInfo);
-            } else {
-                log.info("LLM determined it's general news or unsuitable for PolicyInfo processing. News Title: {}", newsItem.getTitle());
-            }
-
-            try {
-                TimeUnit.SECONDS.sleep(6);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted while sleeping", e);
-            }
+        // Items still claimed by another run would be missing from the report, so the day must not count as done.
+        Set<String> inProgressNewsItemIds = newsIngestionStateService.findInProgressNewsItemIds(apiResponse.getNewsItems().stream()
+                .map(PolicyNewsItem::getNewsItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        if (!inProgressNewsItemIds.isEmpty()) {
+            throw new IllegalStateException(inProgressNewsItemIds.size() + " news items of " + date
+                    + " are still being processed by another run.");
         }
 
         try {
@@ -489,24 +449,7 @@ public class PolicyNewsService {
         }
 
         log.info("Policy news processing for {} complete.", date);
-    }
-
-    private String createNotificationBody(List<String> userImpactStockNames) {
-        StringBuilder messageBuilder = new StringBuilder("귀하의 보유 종목 중 ");
-
-        if (!userImpactStockNames.isEmpty()) {
-            List<String> displayNames = userImpactStockNames.stream().distinct().collect(Collectors.toList()); // 혹시 모를 중복 제거
-            if (displayNames.size() > 3) {
-                messageBuilder.append(String.format("%s, %s, %s 등에 영향을",
-                        displayNames.get(0), displayNames.get(1), displayNames.get(2)));
-            } else {
-                messageBuilder.append(String.join(", ", displayNames)).append("에 영향을");
-            }
-        }
-
-        messageBuilder.append(" 줄 수 있는 정책 변화가 있습니다. 자세히 알아보세요!");
-
-        return messageBuilder.toString();
+        return processedCount;
     }
 
 }
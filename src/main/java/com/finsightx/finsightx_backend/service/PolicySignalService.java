@@ -2,12 +2,16 @@ package com.finsightx.finsightx_backend.service;
 
 
 import com.finsightx.finsightx_backend.domain.PolicySignal;
+import com.finsightx.finsightx_backend.dto.response.CursorPageResponse;
 import com.finsightx.finsightx_backend.dto.response.PolicyInfoResponse;
 import com.finsightx.finsightx_backend.dto.response.PolicySignalListItemResponse;
 import com.finsightx.finsightx_backend.dto.response.PolicySignalResponse;
 import com.finsightx.finsightx_backend.repository.PolicySignalRepository;
+import com.finsightx.finsightx_backend.util.PageCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
@@ -24,6 +28,15 @@ public class PolicySignalService {
     private final PolicySignalRepository policySignalRepository;
     private final PolicyInfoService policyInfoService;
 
+    @Value("${policy-signal.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${pagination.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:100}")
+    private int maxPageSize;
+
     public Optional<PolicySignal> getPolicySignalById(Long policySignalId) {
         return policySignalRepository.findById(policySignalId);
     }
@@ -34,6 +47,20 @@ public class PolicySignalService {
 
     @Transactional
     public PolicySignal createPolicySignal(Long userId, String message, Long policyId, List<String> stockNames, OffsetDateTime date) {
+        PolicySignal policySignal = buildPolicySignal(userId, message, policyId, stockNames, date);
+
+        return policySignalRepository.save(policySignal);
+    }
+
+    @Transactional
+    public int createPolicySignals(List<PolicySignal> policySignals) {
+        if (policySignals.isEmpty()) {
+            return 0;
+        }
+        return policySignalRepository.batchInsert(policySignals, batchSize);
+    }
+
+    public PolicySignal buildPolicySignal(Long userId, String message, Long policyId, List<String> stockNames, OffsetDateTime date) {
         PolicySignal policySignal = new PolicySignal();
         policySignal.setUserId(userId);
         policySignal.setMessage(message);
@@ -41,8 +68,7 @@ public class PolicySignalService {
         policySignal.setCreatedAt(date);
         policySignal.setIsRead(false);
         policySignal.setStockNames(stockNames);
-
-        return policySignalRepository.save(policySignal);
+        return policySignal;
     }
 
     @Transactional
@@ -59,15 +85,47 @@ public class PolicySignalService {
         if (signals.isEmpty()) return Collections.emptyList();
 
         return signals.stream()
-                .map(signal -> new PolicySignalListItemResponse(
-                        signal.getPolicySignalId(),
-                        signal.getMessage(),
-                        signal.getPolicyId(),
-                        signal.getCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
-                        signal.getIsRead(),
-                        signal.getStockNames()
-                ))
+                .map(this::toPolicySignalListItemResponse)
+                .collect(Collectors.toList());
+    }
+
+    public CursorPageResponse<PolicySignalListItemResponse> getUserPolicySignalsPageAsDto(Long userId, String cursor, Integer size) {
+        int pageSize = PageCursor.resolvePageSize(size, defaultPageSize, maxPageSize);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PolicySignal> signals;
+        if (cursor == null || cursor.isBlank()) {
+            signals = policySignalRepository.findByUserIdOrderByCreatedAtDescPolicySignalIdDesc(userId, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            signals = policySignalRepository.findPageBefore(userId, pageCursor.createdAt(), pageCursor.id(), limit);
+        }
+
+        boolean hasNext = signals.size() > pageSize;
+        List<PolicySignal> page = hasNext ? signals.subList(0, pageSize) : signals;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PolicySignal last = page.get(page.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getPolicySignalId()).encode();
+        }
+
+        List<PolicySignalListItemResponse> items = page.stream()
+                .map(this::toPolicySignalListItemResponse)
                 .collect(Collectors.toList());
+
+        return new CursorPageResponse<>(items, nextCursor, hasNext);
+    }
+
+    private PolicySignalListItemResponse toPolicySignalListItemResponse(PolicySignal signal) {
+        return new PolicySignalListItemResponse(
+                signal.getPolicySignalId(),
+                signal.getMessage(),
+                signal.getPolicyId(),
+                signal.getCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
+                signal.getIsRead(),
+                signal.getStockNames()
+        );
     }
 
     public Optional<PolicySignalResponse> getPolicySignalAsDto(Long policySignalId) {
@@ -91,14 +149,7 @@ public class PolicySignalService {
     @Transactional
     public PolicySignalListItemResponse markPolicySignalAsReadAndGetDto(Long policySignalId) {
         PolicySignal updatedSignal = markPolicySignalAsRead(policySignalId);
-        return new PolicySignalListItemResponse(
-                updatedSignal.getPolicySignalId(),
-                updatedSignal.getMessage(),
-                updatedSignal.getPolicyId(),
-                updatedSignal.getCreatedAt().atZoneSameInstant(ZoneId.of("Asia/Seoul")).toOffsetDateTime(),
-                updatedSignal.getIsRead(),
-                updatedSignal.getStockNames()
-        );
+        return toPolicySignalListItemResponse(updatedSignal);
     }
 
 }
@@ -0,0 +1,88 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.domain.PortfolioItem;
+import com.finsightx.finsightx_backend.domain.User;
+import com.finsightx.finsightx_backend.index.PortfolioIndex;
+import com.finsightx.finsightx_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioIndexService {
+
+    private final UserRepository userRepository;
+    private final StockReferenceService stockReferenceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final PortfolioIndex portfolioIndex = new PortfolioIndex();
+
+    @jakarta.annotation.PostConstruct
+    public void init() {
+        rebuildIndex();
+    }
+
+    // Portfolios may also be changed outside this instance, so the index is periodically rebuilt from the DB.
+    @Scheduled(fixedDelayString = "${portfolio-index.refresh-interval-ms:600000}", initialDelayString = "${portfolio-index.refresh-interval-ms:600000}")
+    public void rebuild() {
+        Set<Long> changedUserIds = rebuildIndex();
+        if (!changedUserIds.isEmpty()) {
+            eventPublisher.publishEvent(new PortfolioIndexRebuiltEvent(changedUserIds, false));
+        }
+    }
+
+    @EventListener
+    public void onStockReferenceReloaded(StockReferenceService.StockReferenceReloadedEvent event) {
+        Set<Long> changedUserIds = rebuildIndex();
+        eventPublisher.publishEvent(new PortfolioIndexRebuiltEvent(changedUserIds, true));
+    }
+
+    private Set<Long> rebuildIndex() {
+        List<User> users = userRepository.findAll();
+        Map<String, String> stockCodeToIndustryCodeMap = stockReferenceService.getSnapshot().getStockCodeToIndustryCodeMap();
+
+        Set<Long> changedUserIds = portfolioIndex.rebuild(users, stockCodeToIndustryCodeMap);
+        log.info("Portfolio index rebuilt. Indexed users: {}, changed: {}", portfolioIndex.size(), changedUserIds.size());
+        return changedUserIds;
+    }
+
+    // Applied after commit, so a rolled back portfolio update never reaches the index.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPortfolioUpdated(UserService.PortfolioUpdatedEvent event) {
+        updateUser(event.userId(), event.portfolio());
+    }
+
+    public void updateUser(Long userId, List<PortfolioItem> portfolio) {
+        portfolioIndex.updateUser(userId, portfolio);
+    }
+
+    public Set<Long> findUserIds(Collection<String> stockCodes, Collection<String> industryCodes) {
+        return portfolioIndex.findUserIds(stockCodes, industryCodes);
+    }
+
+    public Set<String> getStockCodes(Long userId) {
+        return portfolioIndex.getStockCodes(userId);
+    }
+
+    public PortfolioIndex getPortfolioIndex() {
+        return portfolioIndex;
+    }
+
+    // Published after a rebuild from the DB; changedUserIds are users whose portfolio changed outside this instance.
+    // When the stock reference was reloaded, industry membership may have changed for every user.
+    public record PortfolioIndexRebuiltEvent(Set<Long> changedUserIds, boolean stockReferenceReloaded) {
+    }
+
+}
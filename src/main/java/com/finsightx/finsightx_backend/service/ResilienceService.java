@@ -0,0 +1,97 @@
+package com.finsightx.finsightx_backend.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Guards calls to external dependencies with retry, circuit breaker and (for blocking calls) a bulkhead,
+ * one instance of each per dependency, so a brownout of one upstream neither stalls nor overloads the others.
+ */
+@Service
+@Slf4j
+public class ResilienceService {
+
+    public static final String NEWS_API = "news-api";
+    public static final String GEMINI = "gemini";
+    public static final String CLOVA = "clova";
+
+    private final RetryRegistry retryRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilienceService(
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            @Value("${resilience.bulkhead.news-api.max-concurrent-calls:2}") int newsApiMaxConcurrentCalls,
+            @Value("${resilience.bulkhead.gemini.max-concurrent-calls:4}") int geminiMaxConcurrentCalls,
+            @Value("${resilience.bulkhead.max-wait-ms:30000}") long bulkheadMaxWaitMs,
+            @Value("${resilience.retry.clova.max-attempts:2}") int clovaMaxAttempts) {
+        this.retryRegistry = retryRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+
+        bulkheadRegistry.bulkhead(NEWS_API, bulkheadConfig(newsApiMaxConcurrentCalls, bulkheadMaxWaitMs));
+        bulkheadRegistry.bulkhead(GEMINI, bulkheadConfig(geminiMaxConcurrentCalls, bulkheadMaxWaitMs));
+
+        // Chatbot users are waiting on the answer, so CLOVA gets fewer attempts than the background pipelines.
+        retryRegistry.retry(CLOVA, RetryConfig.from(retryRegistry.getDefaultConfig()).maxAttempts(clovaMaxAttempts).build());
+
+        for (String dependency : List.of(NEWS_API, GEMINI, CLOVA)) {
+            retryRegistry.retry(dependency).getEventPublisher().onRetry(event ->
+                    log.warn("Retrying {} call (attempt {}) in {} ms: {}", event.getName(), event.getNumberOfRetryAttempts(),
+                            event.getWaitInterval().toMillis(), event.getLastThrowable().getMessage()));
+            circuitBreakerRegistry.circuitBreaker(dependency).getEventPublisher().onStateTransition(event ->
+                    log.warn("Circuit breaker {} changed state: {}", event.getCircuitBreakerName(), event.getStateTransition()));
+        }
+    }
+
+    /**
+     * Runs a blocking call; retry backoff sleeps on the calling thread.
+     * Fails with {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException} while the breaker is open
+     * and with {@link io.github.resilience4j.bulkhead.BulkheadFullException} when no slot frees up in time.
+     */
+    public <T> T call(String dependency, Callable<T> call) throws Exception {
+        Callable<T> guarded = Bulkhead.decorateCallable(bulkheadRegistry.bulkhead(dependency), call);
+        guarded = CircuitBreaker.decorateCallable(circuitBreakerRegistry.circuitBreaker(dependency), guarded);
+        guarded = Retry.decorateCallable(retryRegistry.retry(dependency), guarded);
+        return guarded.call();
+    }
+
+    // Non-blocking; concurrency of reactive calls is bounded by the caller's own admission control.
+    public <T> Mono<T> decorate(String dependency, Mono<T> mono) {
+        return mono
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(dependency)))
+                .transformDeferred(RetryOperator.of(retryRegistry.retry(dependency)));
+    }
+
+    // Streams are not retried: a partially relayed answer cannot be taken back from the client.
+    public <T> Flux<T> decorateStream(String dependency, Flux<T> flux) {
+        return flux.transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(dependency)));
+    }
+
+    private static BulkheadConfig bulkheadConfig(int maxConcurrentCalls, long maxWaitMs) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMs))
+                .build();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReferenceService {
+
+    private final StockService stockService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<StockReferenceSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    @jakarta.annotation.PostConstruct
+    public void init() {
+        snapshot.set(StockReferenceSnapshot.of(versionSequence.incrementAndGet(), stockService.findAll()));
+        log.info("Stock reference snapshot loaded. Version: {}, Stocks: {}", snapshot.get().getVersion(), snapshot.get().size());
+    }
+
+    public StockReferenceSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    @Scheduled(fixedDelayString = "${stock-reference.refresh-interval-ms:3600000}", initialDelayString = "${stock-reference.refresh-interval-ms:3600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    public StockReferenceSnapshot reload() {
+        StockReferenceSnapshot newSnapshot = StockReferenceSnapshot.of(versionSequence.incrementAndGet(), stockService.findAll());
+        snapshot.set(newSnapshot);
+        log.info("Stock reference snapshot reloaded. Version: {}, Stocks: {}", newSnapshot.getVersion(), newSnapshot.size());
+
+        eventPublisher.publishEvent(new StockReferenceReloadedEvent(newSnapshot));
+        return newSnapshot;
+    }
+
+    public record StockReferenceReloadedEvent(StockReferenceSnapshot snapshot) {
+    }
+
+}
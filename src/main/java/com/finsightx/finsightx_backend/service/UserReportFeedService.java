@@ -0,0 +1,183 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.finsightx.finsightx_backend.domain.DailyReport;
+import com.finsightx.finsightx_backend.domain.PortfolioItem;
+import com.finsightx.finsightx_backend.domain.UserReportFeed;
+import com.finsightx.finsightx_backend.index.PortfolioIndex;
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
+import com.finsightx.finsightx_backend.repository.DailyReportRepository;
+import com.finsightx.finsightx_backend.repository.UserReportFeedRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user personalized daily report feed, maintained at write time.
+ * A report is added to the feeds of users whose portfolio overlaps its stocks or industries when the report is written,
+ * and a user's feed is recomputed when their portfolio changes, so reading the feed is a single indexed lookup.
+ * Names are copied into the rows, so every feed is rebuilt when the stock reference is reloaded, and the feeds of users
+ * whose portfolio changed outside this instance are rebuilt when the portfolio index picks the change up.
+ * Relies on the materialized report summaries (industry/stock codes) written by {@link DailyReportService}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserReportFeedService {
+
+    private final UserReportFeedRepository userReportFeedRepository;
+    private final DailyReportRepository dailyReportRepository;
+    private final PortfolioIndexService portfolioIndexService;
+    private final StockReferenceService stockReferenceService;
+
+    @Value("${user-report-feed.batch-size:1000}")
+    private int batchSize;
+
+    public List<UserReportFeed> getFeed(Long userId) {
+        return userReportFeedRepository.findByUserIdOrderByReportCreatedAtDescReportIdDesc(userId);
+    }
+
+    @Transactional
+    public void onReportSaved(DailyReport report) {
+        userReportFeedRepository.deleteByReportId(report.getReportId());
+
+        List<UserReportFeed> entries = buildEntriesForReport(report, portfolioIndexService.getPortfolioIndex(), stockReferenceService.getSnapshot());
+        userReportFeedRepository.batchInsert(entries, batchSize);
+
+        log.info("Added report {} to {} personalized feeds.", report.getReportId(), entries.size());
+    }
+
+    // Takes the new portfolio rather than reading the portfolio index, which is only updated after the commit.
+    @Transactional
+    public void rebuildUser(Long userId, List<PortfolioItem> portfolio) {
+        Set<String> userStockCodes = portfolio == null ? Set.of() : portfolio.stream()
+                .map(PortfolioItem::getStockCode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        rebuildUsers(Map.of(userId, userStockCodes), dailyReportRepository.findByOrderByCreatedAtDesc());
+    }
+
+    @EventListener
+    @Transactional
+    public void onPortfolioIndexRebuilt(PortfolioIndexService.PortfolioIndexRebuiltEvent event) {
+        List<DailyReport> reports = dailyReportRepository.findByOrderByCreatedAtDesc();
+        if (event.stockReferenceReloaded()) {
+            userReportFeedRepository.deleteAllInBatch();
+            rebuildAll(reports);
+            return;
+        }
+
+        PortfolioIndex portfolioIndex = portfolioIndexService.getPortfolioIndex();
+        Map<Long, Set<String>> userStockCodes = new HashMap<>();
+        for (Long userId : event.changedUserIds()) {
+            userStockCodes.put(userId, portfolioIndex.getStockCodes(userId));
+        }
+        rebuildUsers(userStockCodes, reports);
+        log.info("Rebuilt personalized feeds of {} users changed outside this instance.", userStockCodes.size());
+    }
+
+    // Builds every feed from scratch; used once when the feed table is first introduced.
+    @Transactional
+    public void rebuildAllIfEmpty(List<DailyReport> reports) {
+        if (userReportFeedRepository.count() > 0) {
+            return;
+        }
+        rebuildAll(reports);
+    }
+
+    private void rebuildAll(List<DailyReport> reports) {
+        StockReferenceSnapshot stockSnapshot = stockReferenceService.getSnapshot();
+        PortfolioIndex portfolioIndex = portfolioIndexService.getPortfolioIndex();
+        int count = 0;
+        for (DailyReport report : reports) {
+            List<UserReportFeed> entries = buildEntriesForReport(report, portfolioIndex, stockSnapshot);
+            userReportFeedRepository.batchInsert(entries, batchSize);
+            count += entries.size();
+        }
+        log.info("Personalized report feeds built. Entries: {}", count);
+    }
+
+    private void rebuildUsers(Map<Long, Set<String>> userStockCodesByUserId, List<DailyReport> reports) {
+        StockReferenceSnapshot stockSnapshot = stockReferenceService.getSnapshot();
+        List<UserReportFeed> entries = new ArrayList<>();
+        userStockCodesByUserId.forEach((userId, userStockCodes) -> {
+            userReportFeedRepository.deleteByUserId(userId);
+            if (userStockCodes.isEmpty()) {
+                return;
+            }
+
+            Set<String> userIndustryCodes = toIndustryCodes(userStockCodes, stockSnapshot);
+            for (DailyReport report : reports) {
+                UserReportFeed entry = buildEntry(userId, report, userStockCodes, userIndustryCodes, stockSnapshot);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+        });
+        userReportFeedRepository.batchInsert(entries, batchSize);
+    }
+
+    // Static and free of repository access so the fan-out can be benchmarked on its own (see src/jmh).
+    static List<UserReportFeed> buildEntriesForReport(DailyReport report, PortfolioIndex portfolioIndex, StockReferenceSnapshot stockSnapshot) {
+        if (report.getIndustryCodes() == null || report.getStockCodes() == null) {
+            return Collections.emptyList();
+        }
+
+        List<UserReportFeed> entries = new ArrayList<>();
+        for (Long userId : portfolioIndex.findUserIds(report.getStockCodes(), report.getIndustryCodes())) {
+            Set<String> userStockCodes = portfolioIndex.getStockCodes(userId);
+            UserReportFeed entry = buildEntry(userId, report, userStockCodes, toIndustryCodes(userStockCodes, stockSnapshot), stockSnapshot);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private static UserReportFeed buildEntry(Long userId, DailyReport report, Set<String> userStockCodes,
+                                      Set<String> userIndustryCodes, StockReferenceSnapshot stockSnapshot) {
+        if (report.getIndustryCodes() == null || report.getStockCodes() == null) {
+            return null;
+        }
+
+        boolean industryOverlap = report.getIndustryCodes().stream().anyMatch(userIndustryCodes::contains);
+        boolean stockOverlap = report.getStockCodes().stream().anyMatch(userStockCodes::contains);
+        if (!industryOverlap && !stockOverlap) {
+            return null;
+        }
+
+        List<String> userStockNames = report.getStockCodes().stream()
+                .filter(userStockCodes::contains)
+                .map(stockSnapshot::getStockName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        UserReportFeed entry = new UserReportFeed();
+        entry.setUserId(userId);
+        entry.setReportId(report.getReportId());
+        entry.setReportCreatedAt(report.getCreatedAt());
+        entry.setTitle(report.getTitle());
+        // Derived from the codes rather than copied from the report, whose names may not be refreshed yet after a reload.
+        entry.setIndustryNames(report.getIndustryCodes().stream()
+                .map(stockSnapshot::getIndustryName)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
+        entry.setStockNames(userStockNames);
+        return entry;
+    }
+
+    private static Set<String> toIndustryCodes(Set<String> stockCodes, StockReferenceSnapshot stockSnapshot) {
+        return stockCodes.stream()
+                .map(stockSnapshot::getIndustryCode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+}
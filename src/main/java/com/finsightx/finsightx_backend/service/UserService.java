@@ -1,12 +1,13 @@
 package com.finsightx.finsightx_backend.service;
 
 import com.finsightx.finsightx_backend.domain.PortfolioItem;
-import com.finsightx.finsightx_backend.domain.Stock;
 import com.finsightx.finsightx_backend.domain.User;
 import com.finsightx.finsightx_backend.dto.response.PortfolioItemResponse;
-import com.finsightx.finsightx_backend.repository.StockRepository;
+import com.finsightx.finsightx_backend.index.StockReferenceSnapshot;
 import com.finsightx.finsightx_backend.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -17,7 +18,10 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final StockRepository stockRepository;
+    private final StockReferenceService stockReferenceService;
+    private final PortfolioIndexService portfolioIndexService;
+    private final UserReportFeedService userReportFeedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<User> findAll() {
         return userRepository.findAll();
@@ -33,37 +37,46 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User ID " + userId + "를 찾을 수 없습니다."));
     }
 
+    @Transactional
+    public User updateUserPortfolio(Long userId, List<PortfolioItem> portfolio) {
+        User user = getUserById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User ID " + userId + "를 찾을 수 없습니다."));
+        user.setPortfolio(portfolio != null ? portfolio : new ArrayList<>());
+        User savedUser = userRepository.save(user);
+
+        userReportFeedService.rebuildUser(savedUser.getUserId(), savedUser.getPortfolio());
+        // The in-memory portfolio index is only updated once this transaction commits (see PortfolioIndexService).
+        eventPublisher.publishEvent(new PortfolioUpdatedEvent(savedUser.getUserId(), savedUser.getPortfolio()));
+
+        return savedUser;
+    }
+
     public List<PortfolioItemResponse> getMyAssetsAsDto(Long userId) {
         List<PortfolioItem> rawPortfolio = getUserPortfolio(userId);
         if (rawPortfolio.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<String> stockCodes = rawPortfolio.stream()
-                .map(PortfolioItem::getStockCode)
-                .distinct()
-                .toList();
-
-        Map<String, Stock> stockMap = stockRepository.findByStockCodeIn(stockCodes).stream()
-                .collect(Collectors.toMap(Stock::getStockCode, stock -> stock));
+        StockReferenceSnapshot stockSnapshot = stockReferenceService.getSnapshot();
 
         return rawPortfolio.stream()
                 .map(item -> {
-                    Stock stock = stockMap.get(item.getStockCode());
-                    if (stock != null) {
+                    String stockName = stockSnapshot.getStockName(item.getStockCode());
+                    if (stockName != null) {
                         return new PortfolioItemResponse(
-                                stock.getStockName(),
+                                stockName,
                                 item.getQuantity(),
-                                stock.getIndustryName()
+                                stockSnapshot.getIndustryName(stockSnapshot.getIndustryCode(item.getStockCode()))
                         );
                     } else {
                         return null;
                     }
                 })
-                .filter(java.util.Objects::nonNull)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-}
-
+    public record PortfolioUpdatedEvent(Long userId, List<PortfolioItem> portfolio) {
+    }
 
+}
@@ -0,0 +1,152 @@
+package com.finsightx.finsightx_backend.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking admission control for reactive calls.
+ * At most {@code maxInFlight} calls run at once; up to {@code maxQueued} further calls wait (without holding a thread)
+ * for at most {@code queueTimeout}; anything beyond that is rejected immediately with {@link RejectedException}.
+ */
+public class AdmissionLimiter {
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+    private static final int ACQUIRED = 3;
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Duration queueTimeout;
+
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private int inFlight;
+
+    private final Timer waitTimer;
+    private final Counter queueFullCounter;
+    private final Counter queueTimeoutCounter;
+
+    public AdmissionLimiter(String name, int maxInFlight, int maxQueued, Duration queueTimeout, MeterRegistry meterRegistry) {
+        if (maxInFlight < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("maxInFlight must be >= 1 and maxQueued must be >= 0");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.queueTimeout = queueTimeout;
+
+        Gauge.builder(name + ".in_flight", this, AdmissionLimiter::getInFlight).register(meterRegistry);
+        Gauge.builder(name + ".queue_depth", this, AdmissionLimiter::getQueueDepth).register(meterRegistry);
+        this.waitTimer = Timer.builder(name + ".queue_wait").register(meterRegistry);
+        this.queueFullCounter = Counter.builder(name + ".rejected").tag("reason", "queue_full").register(meterRegistry);
+        this.queueTimeoutCounter = Counter.builder(name + ".rejected").tag("reason", "queue_timeout").register(meterRegistry);
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> task) {
+        return Mono.usingWhen(acquire(), permit -> task.get(), permit -> Mono.fromRunnable(this::release));
+    }
+
+    public <T> Flux<T> executeMany(Supplier<Flux<T>> task) {
+        return Flux.usingWhen(acquire(), permit -> task.get(), permit -> Mono.fromRunnable(this::release));
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    private Mono<Boolean> acquire() {
+        return Mono.defer(() -> {
+            Waiter waiter;
+            synchronized (this) {
+                if (inFlight < maxInFlight) {
+                    inFlight++;
+                    waitTimer.record(0, TimeUnit.NANOSECONDS);
+                    return Mono.just(Boolean.TRUE);
+                }
+                if (queue.size() >= maxQueued) {
+                    queueFullCounter.increment();
+                    return Mono.error(new RejectedException("Admission queue is full"));
+                }
+                waiter = new Waiter();
+                queue.addLast(waiter);
+            }
+
+            return waiter.sink.asMono()
+                    .timeout(queueTimeout)
+                    .onErrorResume(e -> onWaitAborted(waiter, e))
+                    .doOnCancel(() -> onWaitAborted(waiter, null).subscribe())
+                    .doOnNext(granted -> {
+                        waiter.state.compareAndSet(GRANTED, ACQUIRED);
+                        waitTimer.record(System.nanoTime() - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+                    });
+        });
+    }
+
+    // The waiter timed out or was cancelled. If a permit was handed over concurrently, pass it on;
+    // once acquired, the permit belongs to the usingWhen scope and is released there.
+    private Mono<Boolean> onWaitAborted(Waiter waiter, Throwable cause) {
+        if (waiter.state.compareAndSet(WAITING, CANCELLED)) {
+            synchronized (this) {
+                queue.remove(waiter);
+            }
+        } else if (waiter.state.compareAndSet(GRANTED, CANCELLED)) {
+            release();
+        }
+
+        if (cause == null) {
+            return Mono.empty();
+        }
+        queueTimeoutCounter.increment();
+        return Mono.error(new RejectedException("Timed out waiting for admission"));
+    }
+
+    private void release() {
+        Waiter next;
+        synchronized (this) {
+            while (true) {
+                next = queue.pollFirst();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+                // The in-flight slot is handed over directly, so inFlight stays unchanged.
+                if (next.state.compareAndSet(WAITING, GRANTED)) {
+                    break;
+                }
+            }
+        }
+        next.sink.tryEmitValue(Boolean.TRUE);
+    }
+
+    private static class Waiter {
+
+        private final Sinks.One<Boolean> sink = Sinks.one();
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final long enqueuedAt = System.nanoTime();
+
+    }
+
+    public static class RejectedException extends RuntimeException {
+
+        public RejectedException(String message) {
+            super(message);
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.finsightx.finsightx_backend.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Removes "(1010)"-style industry codes that the LLM leaves in its prose, in a single pass per string.
+ * Known codes are kept sorted and each parenthesized candidate is looked up by binary search over the
+ * text itself, so a string without codes is returned as is and one with codes costs a single StringBuilder.
+ */
+public final class IndustryCodeScrubber {
+
+    private final String[] codes;
+    private final int maxCodeLength;
+
+    private IndustryCodeScrubber(String[] codes) {
+        this.codes = codes;
+        int max = 0;
+        for (String code : codes) {
+            max = Math.max(max, code.length());
+        }
+        this.maxCodeLength = max;
+    }
+
+    public static IndustryCodeScrubber of(Collection<String> industryCodes) {
+        return new IndustryCodeScrubber(industryCodes.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(code -> !code.isEmpty() && code.indexOf('(') < 0 && code.indexOf(')') < 0)
+                .distinct()
+                .sorted()
+                .toArray(String[]::new));
+    }
+
+    /**
+     * Scrubs and trims every item, dropping items left empty.
+     */
+    public List<String> scrub(List<String> content) {
+        return content.stream()
+                .map(this::scrub)
+                .filter(contentItem -> !contentItem.isEmpty())
+                .toList();
+    }
+
+    public String scrub(String text) {
+        StringBuilder scrubbed = null;
+        int copiedUntil = 0;
+
+        int open = text.indexOf('(');
+        while (open >= 0) {
+            int close = indexOfClose(text, open + 1);
+            if (close >= 0 && isCode(text, open + 1, close)) {
+                if (scrubbed == null) {
+                    scrubbed = new StringBuilder(text.length());
+                }
+                scrubbed.append(text, copiedUntil, open);
+                copiedUntil = close + 1;
+                open = text.indexOf('(', close + 1);
+            } else {
+                open = text.indexOf('(', open + 1);
+            }
+        }
+
+        if (scrubbed == null) {
+            return text.trim();
+        }
+        scrubbed.append(text, copiedUntil, text.length());
+        return scrubbed.toString().trim();
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    // The closing parenthesis of a candidate no longer than the longest code, or -1.
+    private int indexOfClose(String text, int from) {
+        int limit = Math.min(text.length(), from + maxCodeLength + 1);
+        for (int i = from; i < limit; i++) {
+            if (text.charAt(i) == ')') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isCode(String text, int start, int end) {
+        int low = 0;
+        int high = codes.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compare(codes[mid], text, start, end);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Same ordering as String.compareTo, against text[start, end) without copying it.
+    private static int compare(String code, String text, int start, int end) {
+        int length = end - start;
+        int common = Math.min(code.length(), length);
+        for (int i = 0; i < common; i++) {
+            int difference = code.charAt(i) - text.charAt(start + i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return code.length() - length;
+    }
+
+}
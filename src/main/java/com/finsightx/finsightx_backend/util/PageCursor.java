@@ -0,0 +1,52 @@
+package com.finsightx.finsightx_backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over a (created_at DESC, id DESC) ordering.
+ * Encodes the position of the last returned row so the next page is a single index range scan.
+ */
+public record PageCursor(OffsetDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static PageCursor of(OffsetDateTime createdAt, Long id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    public String encode() {
+        Instant instant = createdAt.toInstant();
+        String raw = instant.getEpochSecond() + SEPARATOR + instant.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+            }
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new PageCursor(instant.atOffset(ZoneOffset.UTC), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException and malformed Base64.
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+        }
+    }
+
+    public static int resolvePageSize(Integer requestedSize, int defaultSize, int maxSize) {
+        if (requestedSize == null) {
+            return defaultSize;
+        }
+        if (requestedSize < 1) {
+            throw new IllegalArgumentException("Page size must be >= 1");
+        }
+        return Math.min(requestedSize, maxSize);
+    }
+
+}
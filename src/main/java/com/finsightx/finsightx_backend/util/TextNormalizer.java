@@ -0,0 +1,49 @@
+package com.finsightx.finsightx_backend.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes free text so that documents and queries compare the same way:
+ * NFKC (full-width / compatibility Hangul folded), lower-cased, whitespace collapsed.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * Distinct character bigrams of already normalized text, never spanning whitespace.
+     * Korean words are mostly one to three syllables, so bigrams are the smallest unit that still filters well.
+     */
+    public static Set<String> bigrams(String normalizedText) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalizedText.length(); i++) {
+            char first = normalizedText.charAt(i);
+            char second = normalizedText.charAt(i + 1);
+            if (!Character.isWhitespace(first) && !Character.isWhitespace(second)) {
+                bigrams.add(normalizedText.substring(i, i + 2));
+            }
+        }
+        return bigrams;
+    }
+
+    // Escapes LIKE wildcards so user input is matched literally (used with ESCAPE '\').
+    public static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+}
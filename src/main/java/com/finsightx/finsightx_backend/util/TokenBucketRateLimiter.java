@@ -0,0 +1,61 @@
+package com.finsightx.finsightx_backend.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe token bucket.
+ * Holds at most {@code capacity} permits and refills continuously at {@code permitsPerSecond}.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double permitsPerNano;
+
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(int capacity, double permitsPerSecond) {
+        if (capacity < 1 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be >= 1 and permitsPerSecond must be > 0");
+        }
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.availablePermits = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public static TokenBucketRateLimiter perMinute(int requestsPerMinute, int burst) {
+        return new TokenBucketRateLimiter(burst, requestsPerMinute / 60.0);
+    }
+
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (availablePermits >= 1) {
+                    availablePermits -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - availablePermits) / permitsPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (availablePermits >= 1) {
+            availablePermits -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        availablePermits = Math.min(capacity, availablePermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.finsightx.finsightx_backend.util;
+
+/**
+ * Rough LLM token count for budgeting prompts without calling a tokenizer.
+ * Conservative: Hangul is close to one token per character, Latin text roughly one per four.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        int nonAsciiChars = 0;
+        int asciiChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                asciiChars++;
+            } else {
+                nonAsciiChars++;
+            }
+        }
+        return nonAsciiChars + (asciiChars + 3) / 4;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.finsightx.finsightx_backend.util;
+
+import com.google.genai.errors.ApiException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Classifies failures of outbound calls (news API, Gemini, CLOVA).
+ * Transient failures (429, 5xx, timeouts, connection errors) are worth retrying and count towards opening
+ * a circuit breaker; anything else (4xx, oversized or unparsable responses, open breakers) is not.
+ */
+public final class TransientFailures {
+
+    private TransientFailures() {
+    }
+
+    public static boolean isTransient(Throwable failure) {
+        // An I/O failure is transient unless it wraps a non-retryable cause, so the whole chain is inspected.
+        boolean ioFailure = false;
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SizeLimitedInputStream.LimitExceededException) {
+                return false;
+            }
+            if (cause instanceof HttpClientErrorException.TooManyRequests
+                    || cause instanceof HttpServerErrorException
+                    || cause instanceof WebClientRequestException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof WebClientResponseException e) {
+                return isTransientStatus(e.getStatusCode().value());
+            }
+            if (cause instanceof ApiException e) {
+                return isTransientStatus(e.code());
+            }
+            if (cause instanceof ResourceAccessException || cause instanceof IOException) {
+                ioFailure = true;
+            }
+        }
+        return ioFailure;
+    }
+
+    private static boolean isTransientStatus(int status) {
+        return status == 429 || status >= 500;
+    }
+
+}
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS policy_analysis_cache (
+    cache_key      VARCHAR(64)  PRIMARY KEY,
+    news_item_id   VARCHAR(255),
+    content_hash   VARCHAR(64)  NOT NULL,
+    prompt_version VARCHAR(255) NOT NULL,
+    response       TEXT         NOT NULL,
+    created_at     TIMESTAMPTZ  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_policy_analysis_cache_news_item_id ON policy_analysis_cache (news_item_id);
@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS ingestion_cursor (
+    cursor_name       VARCHAR(255) PRIMARY KEY,
+    last_processed_at TIMESTAMPTZ  NOT NULL,
+    updated_at        TIMESTAMPTZ  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS processed_news_item (
+    news_item_id VARCHAR(255) PRIMARY KEY,
+    status       VARCHAR(32)  NOT NULL,
+    policy_id    BIGINT,
+    claimed_at   TIMESTAMPTZ  NOT NULL,
+    processed_at TIMESTAMPTZ
+);
+
+ALTER TABLE policy_info ADD COLUMN IF NOT EXISTS news_item_id VARCHAR(255);
+
+-- Keeps the news item id on the oldest policy of each duplicate group; the policies themselves are kept,
+-- since signals and reports refer to them.
+UPDATE policy_info p
+SET news_item_id = NULL
+WHERE p.news_item_id IS NOT NULL
+  AND EXISTS (SELECT 1
+              FROM policy_info o
+              WHERE o.news_item_id = p.news_item_id
+                AND o.policy_id < p.policy_id);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_policy_info_news_item_id') THEN
+        ALTER TABLE policy_info ADD CONSTRAINT uk_policy_info_news_item_id UNIQUE (news_item_id);
+    END IF;
+END $$;
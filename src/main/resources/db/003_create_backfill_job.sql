@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS backfill_job (
+    job_id          BIGSERIAL    PRIMARY KEY,
+    start_date      DATE         NOT NULL,
+    end_date        DATE         NOT NULL,
+    concurrency     INTEGER      NOT NULL,
+    status          VARCHAR(32)  NOT NULL,
+    completed_dates JSONB        NOT NULL DEFAULT '[]'::jsonb,
+    processed_items INTEGER      NOT NULL DEFAULT 0,
+    last_error      TEXT,
+    created_at      TIMESTAMPTZ  NOT NULL,
+    updated_at      TIMESTAMPTZ  NOT NULL,
+    heartbeat_at    TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_backfill_job_status ON backfill_job (status);
@@ -0,0 +1,5 @@
+ALTER TABLE daily_report ADD COLUMN IF NOT EXISTS industry_codes JSONB;
+ALTER TABLE daily_report ADD COLUMN IF NOT EXISTS industry_names JSONB;
+ALTER TABLE daily_report ADD COLUMN IF NOT EXISTS stock_codes    JSONB;
+
+CREATE INDEX IF NOT EXISTS idx_daily_report_created_at ON daily_report (created_at DESC);
@@ -0,0 +1,4 @@
+CREATE INDEX IF NOT EXISTS idx_daily_report_created_at_report_id ON daily_report (created_at DESC, report_id DESC);
+DROP INDEX IF EXISTS idx_daily_report_created_at;
+
+CREATE INDEX IF NOT EXISTS idx_policy_signal_user_created_at_id ON policy_signal (user_id, created_at DESC, policy_signal_id DESC);
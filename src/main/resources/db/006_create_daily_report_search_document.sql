@@ -0,0 +1,10 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE IF NOT EXISTS daily_report_search_document (
+    report_id  BIGINT       PRIMARY KEY REFERENCES daily_report (report_id) ON DELETE CASCADE,
+    document   TEXT         NOT NULL,
+    updated_at TIMESTAMPTZ  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_daily_report_search_document_trgm
+    ON daily_report_search_document USING GIN (document gin_trgm_ops);
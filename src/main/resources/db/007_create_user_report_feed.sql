@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS user_report_feed (
+    feed_id           BIGSERIAL    PRIMARY KEY,
+    user_id           BIGINT       NOT NULL,
+    report_id         BIGINT       NOT NULL REFERENCES daily_report (report_id) ON DELETE CASCADE,
+    report_created_at TIMESTAMPTZ  NOT NULL,
+    title             VARCHAR(255) NOT NULL,
+    industry_names    JSONB        NOT NULL DEFAULT '[]'::jsonb,
+    stock_names       JSONB        NOT NULL DEFAULT '[]'::jsonb,
+    CONSTRAINT uk_user_report_feed_user_report UNIQUE (user_id, report_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_report_feed_user_created_at ON user_report_feed (user_id, report_created_at DESC, report_id DESC);
+CREATE INDEX IF NOT EXISTS idx_user_report_feed_report_id ON user_report_feed (report_id);
@@ -0,0 +1,8 @@
+ALTER TABLE processed_news_item ADD COLUMN IF NOT EXISTS attempt_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE processed_news_item ADD COLUMN IF NOT EXISTS next_retry_at TIMESTAMPTZ;
+ALTER TABLE processed_news_item ADD COLUMN IF NOT EXISTS last_error    TEXT;
+ALTER TABLE processed_news_item ADD COLUMN IF NOT EXISTS payload       JSONB;
+
+CREATE INDEX IF NOT EXISTS idx_processed_news_item_retry
+    ON processed_news_item (next_retry_at)
+    WHERE status = 'FAILED' AND next_retry_at IS NOT NULL;
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS news_classifier_model (
+    model_name       VARCHAR(255) PRIMARY KEY,
+    weights          BYTEA        NOT NULL,
+    trained_examples BIGINT       NOT NULL,
+    updated_at       TIMESTAMPTZ  NOT NULL
+);
@@ -0,0 +1,8 @@
+-- pg_trgm extracts no trigrams from one- and two-syllable Korean keywords ("철강", "반도"), so the trigram index
+-- was never used for typical queries. Documents now carry their character bigrams, computed in-process.
+ALTER TABLE daily_report_search_document ADD COLUMN IF NOT EXISTS bigrams TEXT[];
+
+CREATE INDEX IF NOT EXISTS idx_daily_report_search_document_bigrams
+    ON daily_report_search_document USING GIN (bigrams);
+
+DROP INDEX IF EXISTS idx_daily_report_search_document_trgm;
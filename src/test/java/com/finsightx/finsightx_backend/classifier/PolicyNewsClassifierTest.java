@@ -0,0 +1,66 @@
+package com.finsightx.finsightx_backend.classifier;
+
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyNewsClassifierTest {
+
+    private final PolicyNewsItem policyItem = newsItem(
+            "반도체 설비투자 세액공제 확대 시행령 개정", "기획재정부",
+            "<p>정부는 국무회의에서 조세특례제한법 시행령 개정안을 의결했다.</p>");
+    private final PolicyNewsItem eventItem = newsItem(
+            "장관, 지역 봉사 행사 참석", "행정안전부",
+            "<p>장관이 기념식에 참석해 축사를 했다.</p>");
+
+    @Test
+    void priorsSeparatePolicyChangesFromEvents() {
+        PolicyNewsClassifier classifier = PolicyNewsClassifier.withPriors();
+
+        assertThat(classifier.score(policyItem)).isGreaterThan(0.9);
+        assertThat(classifier.score(eventItem)).isLessThan(0.1);
+    }
+
+    @Test
+    void trainingMovesTheScoreTowardsTheLabel() {
+        PolicyNewsClassifier classifier = PolicyNewsClassifier.withPriors();
+        PolicyNewsClassifier.Features features = PolicyNewsClassifier.Features.of(policyItem);
+        double before = classifier.score(features);
+
+        for (int i = 0; i < 20; i++) {
+            classifier.train(features, false, 0.5);
+        }
+
+        assertThat(classifier.score(features)).isLessThan(before);
+        assertThat(classifier.getTrainedExamples()).isEqualTo(20);
+    }
+
+    @Test
+    void restoresTheTrainedModelFromBytes() {
+        PolicyNewsClassifier classifier = PolicyNewsClassifier.withPriors();
+        classifier.train(PolicyNewsClassifier.Features.of(eventItem), true, 0.5);
+
+        PolicyNewsClassifier restored = PolicyNewsClassifier.fromBytes(classifier.toBytes(), classifier.getTrainedExamples());
+
+        assertThat(restored.score(eventItem)).isEqualTo(classifier.score(eventItem));
+        assertThat(restored.getTrainedExamples()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToThePriorsOnAMismatchedLayout() {
+        PolicyNewsClassifier restored = PolicyNewsClassifier.fromBytes(new byte[16], 5);
+
+        assertThat(restored.score(policyItem)).isEqualTo(PolicyNewsClassifier.withPriors().score(policyItem));
+        assertThat(restored.getTrainedExamples()).isZero();
+    }
+
+    private static PolicyNewsItem newsItem(String title, String ministerCode, String dataContents) {
+        PolicyNewsItem newsItem = new PolicyNewsItem();
+        newsItem.setTitle(title);
+        newsItem.setMinisterCode(ministerCode);
+        newsItem.setDataContents(dataContents);
+        return newsItem;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.finsightx.finsightx_backend.index;
+
+import com.finsightx.finsightx_backend.domain.Stock;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockNameMatcherTest {
+
+    private final StockNameMatcher matcher = StockNameMatcher.of(List.of(
+            new Stock("005930", "삼성전자", "4530", "반도체와반도체장비"),
+            new Stock("005935", "삼성전자우", "4530", "반도체와반도체장비"),
+            new Stock("066570", "LG전자", "4535", "전자와 전기제품"),
+            new Stock("005380", "현대차", "2550", "자동차와부품"),
+            new Stock("005385", "현대차우", "2550", "자동차와부품"),
+            new Stock("000720", "현대건설", "2010", "자본재"),
+            new Stock("012450", "한화에어로스페이스", "2010", "자본재"),
+            new Stock("001680", "대상", "3020", "음식료와담배")
+    ));
+
+    @Test
+    void resolvesLooselyWrittenNames() {
+        assertThat(matcher.resolve("삼성전자")).isEqualTo("005930");
+        assertThat(matcher.resolve(" lg 전자 ")).isEqualTo("066570");
+        assertThat(matcher.resolve("엘지전자")).isEqualTo("066570");
+        assertThat(matcher.resolve("현대자동차")).isEqualTo("005380");
+        assertThat(matcher.resolve("삼성전자(주)")).isEqualTo("005930");
+        assertThat(matcher.resolve("삼성전자 보통주")).isEqualTo("005930");
+        assertThat(matcher.resolve("005930")).isEqualTo("005930");
+        assertThat(matcher.resolve("현대차 우선주")).isEqualTo("005385");
+        assertThat(matcher.resolve("반도체 관련주")).isNull();
+    }
+
+    @Test
+    void doesNotResolveOtherCompaniesContainingAListedName() {
+        assertThat(matcher.resolve("현대건설기계")).isNull();
+        assertThat(matcher.resolve("삼성전자서비스")).isNull();
+
+        StockNameMatcher.Resolution resolution = matcher.resolve(
+                List.of("현대건설기계"), "현대건설과 현대건설기계가 해외 수주를 늘렸다.");
+        assertThat(resolution.stockCodes()).isEmpty();
+        assertThat(resolution.unresolvedNames()).containsExactly("현대건설기계");
+    }
+
+    @Test
+    void findsMentionedCompaniesLeftmostLongest() {
+        String text = "<p>삼성전자우와 LG전자가 강세를 보였고, 지원 대상 기업에는 한화에어로스페이스가 포함됐다.</p>";
+
+        assertThat(matcher.findMentionedStockCodes(text)).containsExactly("005935", "066570", "012450");
+    }
+
+    @Test
+    void resolvesPrefixesOfCompaniesMentionedInTheArticle() {
+        StockNameMatcher.Resolution resolution = matcher.resolve(
+                List.of("한화에어로", "삼성전자", "없는회사"), "방산 수출 계약에 한화에어로스페이스가 참여한다.");
+
+        assertThat(resolution.stockCodes()).containsExactly("012450", "005930");
+        assertThat(resolution.unresolvedNames()).containsExactly("없는회사");
+    }
+
+    @Test
+    void neverMatchesTwoCharacterNamesInArticleText() {
+        StockNameMatcher.Resolution resolution = matcher.resolve(List.of("대상", "대"), "정부 지원 대상 기업이 늘었다.");
+
+        assertThat(matcher.findMentionedStockCodes("대상 기업과 대상(001680)")).isEmpty();
+        assertThat(resolution.stockCodes()).containsExactly("001680");
+        assertThat(resolution.unresolvedNames()).containsExactly("대");
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.finsightx.finsightx_backend.parser;
+
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsApiResponse;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyNewsXmlParserTest {
+
+    private final PolicyNewsXmlParser parser = new PolicyNewsXmlParser();
+
+    @Test
+    void parsesAcceptedNewsItems() throws Exception {
+        PolicyNewsApiResponse response = parse("""
+                <response>
+                  <header><resultCode>0</resultCode><resultMsg>NORMAL_SERVICE</resultMsg></header>
+                  <body>
+                    <NewsItem>
+                      <NewsItemId>156700001</NewsItemId>
+                      <GroupingCode>policy</GroupingCode>
+                      <ApproveDate>07/01/2025 09:30:00</ApproveDate>
+                      <Title>반도체 지원 확대</Title>
+                      <DataContents><![CDATA[<p>반도체 <b>설비투자</b> 세액공제</p>]]></DataContents>
+                    </NewsItem>
+                  </body>
+                </response>
+                """, PolicyNewsItemFilter.policyNews());
+
+        assertThat(response.getResultCode()).isEqualTo("0");
+        assertThat(response.getNewsItems()).hasSize(1);
+        PolicyNewsItem item = response.getNewsItems().get(0);
+        assertThat(item.getNewsItemId()).isEqualTo("156700001");
+        assertThat(item.getTitle()).isEqualTo("반도체 지원 확대");
+        assertThat(item.getDataContents()).isEqualTo("<p>반도체 <b>설비투자</b> 세액공제</p>");
+        assertThat(item.getApproveDate()).isEqualTo(OffsetDateTime.of(2025, 7, 1, 9, 30, 0, 0, ZoneOffset.ofHours(9)));
+    }
+
+    @Test
+    void skipsAndCountsFilteredItems() throws Exception {
+        PolicyNewsApiResponse response = parse("""
+                <response>
+                  <header><resultCode>0</resultCode><resultMsg>NORMAL_SERVICE</resultMsg></header>
+                  <body>
+                    <NewsItem><NewsItemId>1</NewsItemId><GroupingCode>briefing</GroupingCode><DataContents>본문</DataContents></NewsItem>
+                    <NewsItem><NewsItemId>2</NewsItemId><GroupingCode>policy</GroupingCode><ApproveDate>07/01/2025 08:00:00</ApproveDate></NewsItem>
+                    <NewsItem><NewsItemId>3</NewsItemId><GroupingCode>policy</GroupingCode><ApproveDate>07/01/2025 10:00:00</ApproveDate></NewsItem>
+                  </body>
+                </response>
+                """, PolicyNewsItemFilter.policyNewsApprovedAfter(
+                OffsetDateTime.of(2025, 7, 1, 9, 0, 0, 0, ZoneOffset.ofHours(9))));
+
+        assertThat(response.getNewsItems()).extracting(PolicyNewsItem::getNewsItemId).containsExactly("3");
+        assertThat(response.getFilteredItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsAtAnErrorHeader() throws Exception {
+        PolicyNewsApiResponse response = parse("""
+                <response>
+                  <header><resultCode>30</resultCode><resultMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</resultMsg></header>
+                  <body><NewsItem><NewsItemId>1</NewsItemId><GroupingCode>policy</GroupingCode></NewsItem></body>
+                </response>
+                """, PolicyNewsItemFilter.policyNews());
+
+        assertThat(response.getResultCode()).isEqualTo("30");
+        assertThat(response.getNewsItems()).isEmpty();
+    }
+
+    @Test
+    void reportsAMissingHeader() throws Exception {
+        PolicyNewsApiResponse response = parse("<response><body/></response>", PolicyNewsItemFilter.policyNews());
+
+        assertThat(response.getResultCode()).isEqualTo("98");
+        assertThat(response.getNewsItems()).isEmpty();
+    }
+
+    private PolicyNewsApiResponse parse(String xml, PolicyNewsItemFilter filter) throws Exception {
+        return parser.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), filter);
+    }
+
+}
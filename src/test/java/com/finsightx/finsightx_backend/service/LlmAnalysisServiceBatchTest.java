@@ -0,0 +1,85 @@
+package com.finsightx.finsightx_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.finsightx.finsightx_backend.dto.policyNewsApi.PolicyNewsItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmAnalysisServiceBatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void splitsByItemCount() {
+        List<PolicyNewsItem> items = List.of(newsItem("가"), newsItem("나"), newsItem("다"), newsItem("라"), newsItem("마"));
+
+        List<List<PolicyNewsItem>> batches = LlmAnalysisService.splitIntoBatches(items, 2, 1000);
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(items);
+    }
+
+    @Test
+    void splitsByEstimatedInputTokens() {
+        // One token per Hangul character.
+        List<PolicyNewsItem> items = List.of(newsItem("가".repeat(40)), newsItem("나".repeat(40)),
+                newsItem("다".repeat(150)), newsItem("라".repeat(10)));
+
+        List<List<PolicyNewsItem>> batches = LlmAnalysisService.splitIntoBatches(items, 10, 100);
+
+        // The oversized item still gets a batch of its own rather than being dropped.
+        assertThat(batches).extracting(List::size).containsExactly(2, 1, 1);
+        assertThat(batches.get(1)).containsExactly(items.get(2));
+    }
+
+    @Test
+    void readsEveryAnswerOfACompleteResponse() {
+        Map<String, ObjectNode> answers = LlmAnalysisService.readBatchLlmResponse(objectMapper, """
+                [{"articleId": "1", "isPolicyChange": true, "policyName": "세액공제 확대"},
+                 {"articleId": "2", "isPolicyChange": false}]
+                """);
+
+        assertThat(answers).containsOnlyKeys("1", "2");
+        assertThat(answers.get("1").has("articleId")).isFalse();
+        assertThat(answers.get("1").get("policyName").asText()).isEqualTo("세액공제 확대");
+    }
+
+    @Test
+    void keepsTheAnswersCompletedBeforeATruncation() {
+        Map<String, ObjectNode> answers = LlmAnalysisService.readBatchLlmResponse(objectMapper, """
+                [{"articleId": "1", "isPolicyChange": false},
+                 {"articleId": "2", "isPolicyChange": true},
+                 {"articleId": "3", "isPolicyChange": true, "policyName": "반도체 지""");
+
+        assertThat(answers).containsOnlyKeys("1", "2");
+    }
+
+    @Test
+    void skipsAnswersWithoutAnArticleId() {
+        Map<String, ObjectNode> answers = LlmAnalysisService.readBatchLlmResponse(objectMapper, """
+                [{"isPolicyChange": false}, "noise", {"articleId": "2", "isPolicyChange": false},
+                 {"articleId": "2", "isPolicyChange": true}]
+                """);
+
+        assertThat(answers).containsOnlyKeys("2");
+        assertThat(answers.get("2").get("isPolicyChange").asBoolean()).isFalse();
+    }
+
+    @Test
+    void returnsNoAnswersWhenTheResponseIsNotAnArray() {
+        assertThat(LlmAnalysisService.readBatchLlmResponse(objectMapper, "{\"articleId\": \"1\"}")).isEmpty();
+        assertThat(LlmAnalysisService.readBatchLlmResponse(objectMapper, "분석할 수 없습니다.")).isEmpty();
+    }
+
+    private static PolicyNewsItem newsItem(String title) {
+        PolicyNewsItem newsItem = new PolicyNewsItem();
+        newsItem.setTitle(title);
+        return newsItem;
+    }
+
+}
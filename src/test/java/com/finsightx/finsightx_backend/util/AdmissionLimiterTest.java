@@ -0,0 +1,75 @@
+package com.finsightx.finsightx_backend.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void queuedCallRunsWhenThePermitIsReleased() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter("test", 1, 1, Duration.ofSeconds(5), meterRegistry);
+        Sinks.One<String> firstResult = Sinks.one();
+
+        CompletableFuture<String> first = limiter.execute(firstResult::asMono).toFuture();
+        CompletableFuture<String> second = limiter.execute(() -> Mono.just("second")).toFuture();
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+        assertThat(second).isNotDone();
+
+        firstResult.tryEmitValue("first");
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenTheQueueIsFull() {
+        AdmissionLimiter limiter = new AdmissionLimiter("test", 1, 0, Duration.ofSeconds(5), meterRegistry);
+        Sinks.One<String> firstResult = Sinks.one();
+        limiter.execute(firstResult::asMono).subscribe();
+
+        assertThatThrownBy(() -> limiter.execute(() -> Mono.just("second")).block())
+                .isInstanceOf(AdmissionLimiter.RejectedException.class);
+        assertThat(meterRegistry.get("test.rejected").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+
+        firstResult.tryEmitValue("first");
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void rejectsAQueuedCallThatWaitsTooLong() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter("test", 1, 1, Duration.ofMillis(50), meterRegistry);
+        Sinks.One<String> firstResult = Sinks.one();
+        limiter.execute(firstResult::asMono).subscribe();
+
+        CompletableFuture<String> second = limiter.execute(() -> Mono.just("second")).toFuture();
+
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(AdmissionLimiter.RejectedException.class);
+        assertThat(limiter.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("test.rejected").tag("reason", "queue_timeout").counter().count()).isEqualTo(1);
+
+        // The timed-out waiter must not keep the permit once the running call finishes.
+        firstResult.tryEmitValue("first");
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.execute(() -> Mono.just("third")).block()).isEqualTo("third");
+    }
+
+}